@@ -0,0 +1,87 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import com.example.springboot_starter_auth.global.util.CookieUtil;
+import com.example.springboot_starter_auth.global.util.EnvironmentUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 토큰 추출 벤치마크 (쿠키 / Authorization 헤더 / 토큰 없음) + 공개 경로 건너뛰기 판정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private JwtTokenResolver tokenResolver;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletRequest staticAssetRequest;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(JwtTokenProviderBenchmark.hmacKeys(), 3600, 1209600, true, 10_000, new SimpleMeterRegistry());
+        tokenResolver = new JwtTokenResolver("accessToken", "Bearer");
+        SlidingTokenReissuer tokenReissuer = new SlidingTokenReissuer(jwtTokenProvider, true, 300, 1209600, 100_000, new SimpleMeterRegistry());
+        CookieUtil cookieUtil = new CookieUtil(new EnvironmentUtil(new StandardEnvironment()));
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new TokenDenylist(3600, 100_000, 0.001), tokenResolver,
+                tokenReissuer, cookieUtil, new SimpleMeterRegistry());
+        String accessToken = jwtTokenProvider.createAccessToken(42L, Role.USER);
+
+        // 실제 브라우저처럼 분석 도구 쿠키들 사이에 accessToken이 섞여 있는 경우
+        cookieRequest = new MockHttpServletRequest("GET", "/api/users/me/info");
+        cookieRequest.setCookies(
+                new Cookie("_ga", "GA1.1.1234567890.1700000000"),
+                new Cookie("_gid", "GA1.1.987654321.1700000000"),
+                new Cookie("_fbp", "fb.1.1700000000000.1234567890"),
+                new Cookie("accessToken", accessToken),
+                new Cookie("refreshToken", "refresh-token-value"));
+
+        headerRequest = new MockHttpServletRequest("GET", "/api/users/me/info");
+        headerRequest.addHeader("Authorization", "Bearer " + accessToken);
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/main.html");
+
+        // 정적 리소스 요청에도 로그인 후의 쿠키가 함께 전송됨
+        staticAssetRequest = new MockHttpServletRequest("GET", "/img/landing/hero.webp");
+        staticAssetRequest.setCookies(cookieRequest.getCookies());
+    }
+
+    @Benchmark
+    public String resolveFromCookie() {
+        return tokenResolver.resolve(cookieRequest);
+    }
+
+    @Benchmark
+    public String resolveFromHeader() {
+        return tokenResolver.resolve(headerRequest);
+    }
+
+    @Benchmark
+    public String resolveAnonymous() {
+        return tokenResolver.resolve(anonymousRequest);
+    }
+
+    // 공개 경로 판정 비용 (건너뛰는 요청 / 필터를 거치는 요청)
+    @Benchmark
+    public boolean skipStaticAsset() {
+        return filter.shouldNotFilter(staticAssetRequest);
+    }
+
+    @Benchmark
+    public boolean skipProtectedPath() {
+        return filter.shouldNotFilter(cookieRequest);
+    }
+}
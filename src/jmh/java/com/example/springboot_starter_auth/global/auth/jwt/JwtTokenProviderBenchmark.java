@@ -0,0 +1,92 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// JwtTokenProvider 발급/검증 경로 벤치마크 (검증 캐시 사용 여부, 서명 방식별)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-for-jmh-runs-1234567890123456789012345678";
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    // ES256은 임시 키 쌍으로 서명 (서명 비용은 HMAC보다 크지만 검증 캐시 hit 시에는 차이 없음)
+    @Param({JwtSigningKeys.HMAC, JwtSigningKeys.ES256})
+    public String signingAlgorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String invalidToken;
+    private String expiredToken;
+    private String garbageToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new JwtSigningKeys(SECRET, signingAlgorithm, "", "", "", true), 3600, 1209600, cacheEnabled, 10_000, new SimpleMeterRegistry());
+        accessToken = jwtTokenProvider.createAccessToken(42L, Role.USER);
+        // 서명 부분만 변조한 토큰 (파싱은 되지만 서명 검증에서 실패)
+        invalidToken = accessToken.substring(0, accessToken.length() - 4) + "AAAA";
+        // 봇이 반복 전송하는 만료된 쿠키 (서명은 유효)
+        expiredToken = Jwts.builder()
+                .subject("42")
+                .claim(JwtTokenProvider.ROLES_CLAIM, Role.USER.name())
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        garbageToken = "undefined";
+    }
+
+    static JwtSigningKeys hmacKeys() {
+        return new JwtSigningKeys(SECRET, JwtSigningKeys.HMAC, "", "", "", true);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(42L, Role.USER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateInvalidToken() {
+        return jwtTokenProvider.validateToken(invalidToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    // 서명 계산 전에 거절되는 경로 (만료 / JWT 형식 아님)
+    @Benchmark
+    public TokenVerification verifyExpiredToken() {
+        return jwtTokenProvider.verifyAccessToken(expiredToken);
+    }
+
+    @Benchmark
+    public TokenVerification verifyGarbageToken() {
+        return jwtTokenProvider.verifyAccessToken(garbageToken);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter에 추가된 폐기 토큰 조회 비용 (폐기 목록 크기별, 폐기되지 않은 토큰 / 폐기된 토큰)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenDenylistBenchmark {
+
+    @Param({"0", "1000", "100000"})
+    public int revokedCount;
+
+    private TokenDenylist tokenDenylist;
+    private String activeTokenId;
+    private String revokedTokenId;
+    private long expiresAtMillis;
+
+    @Setup
+    public void setUp() {
+        tokenDenylist = new TokenDenylist(3600, 100_000, 0.001);
+        expiresAtMillis = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(30);
+        for (int i = 0; i < revokedCount; i++) {
+            tokenDenylist.revoke(UUID.randomUUID().toString(), expiresAtMillis);
+        }
+        revokedTokenId = UUID.randomUUID().toString();
+        tokenDenylist.revoke(revokedTokenId, expiresAtMillis);
+        activeTokenId = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public boolean activeToken() {
+        return tokenDenylist.isRevoked(activeTokenId, expiresAtMillis);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return tokenDenylist.isRevoked(revokedTokenId, expiresAtMillis);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.springboot_starter_auth.global.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+// P6Spy 로깅 벤치마크 - JDBC 스레드에서 문장마다 실행되는 비용 (sync: formatMessage, async: 링 버퍼 기록)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class P6SpySqlFormatterBenchmark {
+
+    private static final String PREPARED = "select u1_0.user_id,u1_0.created_at,u1_0.created_by,u1_0.email,u1_0.kakao_id,"
+            + "u1_0.modified_by,u1_0.nickname,u1_0.profile_image_url,u1_0.updated_at from users u1_0 where u1_0.kakao_id=?";
+    private static final String SQL = PREPARED.replace("?", "1234567890");
+    private static final String DDL = "create table users (user_id bigint generated by default as identity, "
+            + "kakao_id bigint not null, nickname varchar(255) not null, primary key (user_id))";
+
+    private P6SpySqlFormatter formatter;
+    private SqlStatementRecorder recorder;
+
+    @Setup
+    public void setUp() {
+        // P6SpyOptions 등록 없이 포맷팅/기록 비용만 측정합니다.
+        formatter = new P6SpySqlFormatter();
+        // 느린 문장/샘플이 없도록 설정해 백그라운드 스레드는 히스토그램 집계만 합니다.
+        recorder = new SqlStatementRecorder(8192, Long.MAX_VALUE, 0, 1000);
+        recorder.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        recorder.close();
+    }
+
+    @Benchmark
+    public String formatStatement() {
+        return formatter.formatMessage(1, "1700000000000", 3, "statement", PREPARED, SQL, "jdbc:postgresql://localhost:5432/db");
+    }
+
+    @Benchmark
+    public String formatDdl() {
+        return formatter.formatMessage(1, "1700000000000", 3, "statement", DDL, DDL, "jdbc:postgresql://localhost:5432/db");
+    }
+
+    @Benchmark
+    public String formatCommit() {
+        return formatter.formatMessage(1, "1700000000000", 0, "commit", "", "", "jdbc:postgresql://localhost:5432/db");
+    }
+
+    @Benchmark
+    public void recordAsync() {
+        recorder.record("statement", 3, PREPARED, SQL, "0190f4c2-7b1e-7c3a-8f2d-3e4b5a6c7d8e");
+    }
+}
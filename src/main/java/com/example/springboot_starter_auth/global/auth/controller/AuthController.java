@@ -1,29 +1,41 @@
 package com.example.springboot_starter_auth.global.auth.controller;
 
 import com.example.springboot_starter_auth.global.auth.dto.AuthResponseDto;
+import com.example.springboot_starter_auth.global.auth.jwt.JwtTokenProvider;
+import com.example.springboot_starter_auth.global.auth.jwt.SlidingTokenReissuer;
+import com.example.springboot_starter_auth.global.auth.jwt.TokenDenylist;
 import com.example.springboot_starter_auth.global.auth.service.AuthService;
-import com.example.springboot_starter_auth.global.util.EnvironmentUtil;
+import com.example.springboot_starter_auth.global.auth.service.RefreshTokenService;
+import com.example.springboot_starter_auth.global.util.CookieUtil;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.time.Duration;
 
 @RestController
-@RequestMapping("/auth/kakao")
+@RequestMapping(AuthController.BASE_PATH)
 @RequiredArgsConstructor
 @Slf4j
 // BoilerPlate Class
 public class AuthController {
 
+    public static final String BASE_PATH = "/auth/kakao";
+    private static final String LOGOUT = "/logout";
+    // SecurityConfig의 permitAll 경로 (매핑과 같은 상수를 써서 경로가 어긋나지 않도록 함)
+    public static final String LOGOUT_PATH = BASE_PATH + LOGOUT;
+
     private final AuthService authService;
-    private final EnvironmentUtil envUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenDenylist tokenDenylist;
+    private final SlidingTokenReissuer tokenReissuer;
+    private final CookieUtil cookieUtil;
 
     @GetMapping("/callback")
     public ResponseEntity<Void> kakaoCallback(@RequestParam("code") String code, HttpServletResponse response) {
@@ -31,29 +43,9 @@ public class AuthController {
         log.info("Kakao callback invoked");
         AuthResponseDto authResponse = authService.loginWithKakao(code);
 
-        // 유틸로 환경 체크 (HTTP 환경에서는 secure=false)
-        boolean isHttpEnv = envUtil.isHttpEnvironment();
-        boolean cookieSecure = !isHttpEnv;  // local/dev: false, prod: true
-
-        // 액세스 토큰 쿠키 (ResponseCookie 사용)
-        ResponseCookie accessCookie = ResponseCookie.from("accessToken", authResponse.getAccessToken())
-                .httpOnly(true)          // JS 접근 불가
-                .secure(cookieSecure)    // local: false, dev, prod: true
-                .sameSite("Lax")         // Strict -> Lax로 변경 (리다이렉트 시 쿠키 전달 허용)
-                .path("/")               // 전체 경로
-                .maxAge(Duration.ofSeconds(3600))  // 1시간
-                .build();
-        response.addHeader("Set-Cookie", accessCookie.toString());  // 헤더로 추가
-
-        // 리프레시 토큰 쿠키 (유사)
-        ResponseCookie refreshCookie = ResponseCookie.from("refreshToken", authResponse.getRefreshToken())
-                .httpOnly(true)
-                .secure(cookieSecure)
-                .sameSite("Lax")         // Strict -> Lax로 변경
-                .path("/")
-                .maxAge(Duration.ofSeconds(604800))  // 7일
-                .build();
-        response.addHeader("Set-Cookie", refreshCookie.toString());
+        // 액세스/리프레시 토큰 쿠키 (HTTP 환경에서는 secure=false)
+        response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.accessTokenCookie(authResponse.getAccessToken()).toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.refreshTokenCookie(authResponse.getRefreshToken()).toString());
 
         // 인증 완료 후 홈페이지로 리다이렉트
         String redirectPath = "/home.html";
@@ -66,26 +58,28 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.FOUND).location(redirectUri).build();
     }
 
-    @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response) {
+    @PostMapping(LOGOUT)
+    public ResponseEntity<String> logout(@CookieValue(name = CookieUtil.ACCESS_TOKEN_COOKIE, required = false) String accessToken,
+                                         @CookieValue(name = CookieUtil.REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+                                         HttpServletResponse response) {
+        // 액세스 토큰 폐기 (쿠키를 복사해 둔 경우에도 exp 전까지 사용할 수 없도록)
+        // 슬라이딩 재발급으로 연결된 직전/다음 토큰도 아직 유효할 수 있으므로 함께 폐기합니다.
+        if (accessToken != null && !accessToken.isBlank()) {
+            jwtTokenProvider.verify(accessToken).ifPresent(verified -> {
+                tokenDenylist.revoke(verified.tokenId(), verified.expiresAtMillis());
+                tokenReissuer.linkedTokens(verified.tokenId())
+                        .forEach(linked -> tokenDenylist.revoke(linked.tokenId(), linked.expiresAtMillis()));
+            });
+        }
+
+        // 서버에 저장된 리프레시 토큰 family 폐기 (쿠키를 복사해 둔 경우에도 재발급 불가)
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+
         // 쿠키 삭제를 위해 만료시간을 0으로 설정
-        ResponseCookie expiredAccessCookie = ResponseCookie.from("accessToken", "")
-                .httpOnly(true)
-                .secure(!envUtil.isLocalEnvironment())
-                .sameSite("Lax")
-                .path("/")
-                .maxAge(0)
-                .build();
-        response.addHeader("Set-Cookie", expiredAccessCookie.toString());
-        
-        ResponseCookie expiredRefreshCookie = ResponseCookie.from("refreshToken", "")
-                .httpOnly(true)
-                .secure(!envUtil.isLocalEnvironment())
-                .sameSite("Lax")
-                .path("/")
-                .maxAge(0)
-                .build();
-        response.addHeader("Set-Cookie", expiredRefreshCookie.toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.expiredCookie(CookieUtil.ACCESS_TOKEN_COOKIE).toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.expiredCookie(CookieUtil.REFRESH_TOKEN_COOKIE).toString());
         
         return ResponseEntity.ok("Logout successful");
     }
@@ -0,0 +1,71 @@
+package com.example.springboot_starter_auth.global.auth.controller;
+
+import com.example.springboot_starter_auth.global.auth.jwt.JwtSigningKeys;
+import com.example.springboot_starter_auth.global.util.HashUtil;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 검증용 공개 키 목록 (JWK Set)
+ *
+ * 다른 서비스는 spring.security.oauth2.resourceserver.jwt.jwk-set-uri로 이 주소를 지정하고 jws-algorithms를 ES256으로 두면,
+ * 인증 서버 호출 없이 로컬에서 토큰을 검증합니다. 키 목록은 배포 단위로만 바뀌므로 시작 시 한 번 직렬화해 두고 캐시 헤더와 ETag를 붙입니다.
+ *
+ * 리프레시 토큰도 같은 키로 서명되므로, 검증하는 쪽은 반드시 헤더 typ가 at+jwt인 토큰만 액세스 토큰으로 받아야 합니다.
+ * (리프레시 토큰은 typ=refresh+jwt, fid 클레임 포함)
+ * Spring Security 리소스 서버라면 JwtDecoder에 JwtTypeValidator("at+jwt")를 추가하고 Nimbus 기본 typ 검사(JWT만 허용)는 끕니다.
+ * (/.well-known/**는 PublicRoutes에 포함되어 인증 없이 접근 가능하고 JWT 필터도 건너뜀)
+ */
+@RestController
+public class JwksController {
+
+    private static final MediaType JWK_SET_TYPE = MediaType.parseMediaType(JWKSet.MIME_TYPE);
+
+    private final String body;
+    private final String etag;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtSigningKeys signingKeys,
+                          @Value("${jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        List<JWK> keys = new ArrayList<>();
+        signingKeys.publicKeys().forEach((keyId, publicKey) -> keys.add(new ECKey.Builder(Curve.P_256, publicKey)
+                .keyID(keyId)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.ES256)
+                .build()));
+        // toString()은 공개 키 정보만 직렬화합니다.
+        this.body = new JWKSet(keys).toString();
+        this.etag = "\"" + HashUtil.sha256(body) + "\"";
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> jwks(ServletWebRequest webRequest) {
+        // 약한 비교(W/"...")와 여러 값("a", "b"), "*"까지 Spring이 처리하고, 일치하면 304 상태와 ETag를 설정합니다.
+        if (webRequest.checkNotModified(etag)) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .contentType(JWK_SET_TYPE)
+                .body(body);
+    }
+}
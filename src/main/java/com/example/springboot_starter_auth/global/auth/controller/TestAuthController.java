@@ -35,7 +35,7 @@ public class TestAuthController {
                     return userRepository.save(newUser);
                 });
 
-        String accessToken = jwtTokenProvider.createAccessToken(testUser.getId());
+        String accessToken = jwtTokenProvider.createAccessToken(testUser.getId(), testUser.getRole());
         
         Map<String, Object> response = new HashMap<>();
         response.put("userId", testUser.getId());
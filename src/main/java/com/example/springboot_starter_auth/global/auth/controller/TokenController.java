@@ -0,0 +1,48 @@
+package com.example.springboot_starter_auth.global.auth.controller;
+
+import com.example.springboot_starter_auth.global.auth.dto.AuthResponseDto;
+import com.example.springboot_starter_auth.global.auth.service.RefreshTokenService;
+import com.example.springboot_starter_auth.global.util.CookieUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+@Slf4j
+public class TokenController {
+
+    private final RefreshTokenService refreshTokenService;
+    private final CookieUtil cookieUtil;
+
+    // 액세스 토큰 만료 시 카카오 로그인을 다시 하지 않고 리프레시 토큰으로 재발급
+    @PostMapping("/refresh")
+    public ResponseEntity<String> refresh(@CookieValue(name = CookieUtil.REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+                                          HttpServletResponse response) {
+        Optional<AuthResponseDto> rotated = refreshToken == null || refreshToken.isBlank()
+                ? Optional.empty()
+                : refreshTokenService.rotate(refreshToken);
+
+        if (rotated.isEmpty()) {
+            // 재발급 불가 -> 남아 있는 쿠키를 지우고 다시 로그인하도록 안내
+            response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.expiredCookie(CookieUtil.ACCESS_TOKEN_COOKIE).toString());
+            response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.expiredCookie(CookieUtil.REFRESH_TOKEN_COOKIE).toString());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token is invalid or expired");
+        }
+
+        AuthResponseDto authResponse = rotated.get();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.accessTokenCookie(authResponse.getAccessToken()).toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.refreshTokenCookie(authResponse.getRefreshToken()).toString());
+        return ResponseEntity.ok("Token refreshed");
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.springboot_starter_auth.global.auth.handler;
 
 import com.example.springboot_starter_auth.global.auth.jwt.JwtTokenProvider;
-import com.example.springboot_starter_auth.global.auth.user.entity.User;
-import com.example.springboot_starter_auth.global.auth.user.repository.UserRepository;
+import com.example.springboot_starter_auth.global.auth.service.AuthService;
+import com.example.springboot_starter_auth.global.auth.service.RefreshTokenService;
+import com.example.springboot_starter_auth.global.auth.user.repository.UserUpsertResult;
+import com.example.springboot_starter_auth.global.auth.user.service.KakaoUserRegistrar;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +27,9 @@ import java.util.Map;
 public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final KakaoUserRegistrar kakaoUserRegistrar;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, 
@@ -46,13 +51,14 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
             log.info("OAuth2 Success - Kakao ID: {}, Email: {}, Nickname: {}", kakaoId, email, nickname);
 
-            // Find or create user
-            User user = userRepository.findByKakaoId(kakaoId)
-                    .orElseGet(() -> createNewUser(kakaoId, email, nickname));
+            // Create or update user in a single upsert (concurrent logins for the same account share one upsert)
+            UserUpsertResult user = kakaoUserRegistrar.register(kakaoId, nickname, null, email);
+            meterRegistry.counter(AuthService.LOGIN_METRIC, "source", "oauth2",
+                    "result", user.created() ? "new_user" : "returning_user").increment();
 
             // Generate JWT tokens
-            String accessToken = jwtTokenProvider.createAccessToken(user.getId());
-            String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+            String accessToken = jwtTokenProvider.createAccessToken(user.userId(), user.role());
+            String refreshToken = refreshTokenService.issue(user.userId(), user.role());
 
             // Set refresh token as HTTP-only cookie
             ResponseCookie refreshCookie = ResponseCookie.from("refreshToken", refreshToken)
@@ -72,25 +78,14 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
                     .toUriString();
             
             log.info("OAuth2 login successful - redirecting user: {} (ID: {}) to {}", 
-                    user.getNickname(), user.getId(), redirectUrl);
+                    nickname, user.userId(), redirectUrl);
             
             response.sendRedirect(redirectUrl);
             
         } catch (Exception e) {
+            meterRegistry.counter(AuthService.LOGIN_METRIC, "source", "oauth2", "result", "failure").increment();
             log.error("Error processing OAuth2 success for user: {}", oAuth2User.getAttribute("id"), e);
             response.sendRedirect("/main.html?error=auth_processing_failed");
         }
     }
-
-    private User createNewUser(Long kakaoId, String email, String nickname) {
-        User newUser = User.builder()
-                .kakaoId(kakaoId)
-                .email(email)
-                .nickname(nickname)
-                .build();
-        
-        User savedUser = userRepository.save(newUser);
-        log.info("New user created: {} (Kakao ID: {})", nickname, kakaoId);
-        return savedUser;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 역할/스코프 조합 문자열을 불변 GrantedAuthority 집합으로 변환하고, 조합별로 하나의 인스턴스만 재사용합니다.
+ * 요청마다 권한 리스트를 새로 만들지 않기 위한 용도이며, 조합 수는 많지 않으므로 상한만 두고 무제한 보관합니다.
+ */
+public class GrantedAuthorityCache {
+
+    // 비정상적으로 많은 조합이 들어와도 메모리가 늘어나지 않도록 상한을 둡니다. (초과분은 캐시 없이 변환)
+    private static final int MAX_ENTRIES = 256;
+
+    private final String prefix;
+    private final ConcurrentMap<String, Set<GrantedAuthority>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param prefix 권한 이름 앞에 붙일 접두사 (예: "ROLE_", "SCOPE_")
+     */
+    public GrantedAuthorityCache(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * 공백으로 구분된 값 목록(예: "USER ADMIN")을 권한 집합으로 변환합니다.
+     */
+    public Set<GrantedAuthority> get(String spaceDelimitedValues) {
+        if (spaceDelimitedValues == null || spaceDelimitedValues.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<GrantedAuthority> cached = cache.get(spaceDelimitedValues);
+        if (cached != null) {
+            return cached;
+        }
+        Set<GrantedAuthority> authorities = toAuthorities(spaceDelimitedValues.trim().split("\\s+"));
+        if (cache.size() < MAX_ENTRIES) {
+            Set<GrantedAuthority> existing = cache.putIfAbsent(spaceDelimitedValues, authorities);
+            return existing != null ? existing : authorities;
+        }
+        return authorities;
+    }
+
+    /**
+     * 값 목록을 권한 집합으로 변환합니다. 순서가 달라도 같은 조합이면 같은 인스턴스를 반환합니다.
+     */
+    public Set<GrantedAuthority> get(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return get(String.join(" ", new TreeSet<>(values)));
+    }
+
+    private Set<GrantedAuthority> toAuthorities(String[] values) {
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        for (String value : values) {
+            authorities.add(new SimpleGrantedAuthority(prefix + value));
+        }
+        return Collections.unmodifiableSet(authorities);
+    }
+}
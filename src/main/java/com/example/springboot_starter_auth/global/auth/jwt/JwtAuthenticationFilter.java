@@ -1,65 +1,124 @@
 package com.example.springboot_starter_auth.global.auth.jwt;
 
+import com.example.springboot_starter_auth.global.config.security.PublicRoutes;
+import com.example.springboot_starter_auth.global.logging.RequestCorrelationFilter;
+import com.example.springboot_starter_auth.global.util.CookieUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.springframework.util.StringUtils.*;
 
 // 모든 API 요청이 들어올 때마다 헤더의 JWT를 검사하는 필터입니다.
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenDenylist tokenDenylist;
+    private final JwtTokenResolver tokenResolver;
+    private final SlidingTokenReissuer tokenReissuer;
+    private final CookieUtil cookieUtil;
+    // 필터 자체의 처리 시간 (이후 필터 체인/컨트롤러 시간은 제외), 결과별로 미리 등록
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer invalidTimer;
+    private final Timer revokedTimer;
+    // 인증하지 않은 토큰의 거절 사유별 건수 (auth.token.rejected{reason})
+    private final Map<TokenVerification.Status, Counter> rejectionCounters = new EnumMap<>(TokenVerification.Status.class);
+    private final Counter revokedCounter;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenDenylist tokenDenylist,
+                                   JwtTokenResolver tokenResolver, SlidingTokenReissuer tokenReissuer,
+                                   CookieUtil cookieUtil, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenDenylist = tokenDenylist;
+        this.tokenResolver = tokenResolver;
+        this.tokenReissuer = tokenReissuer;
+        this.cookieUtil = cookieUtil;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.anonymousTimer = filterTimer(meterRegistry, "anonymous");
+        this.invalidTimer = filterTimer(meterRegistry, "invalid");
+        this.revokedTimer = filterTimer(meterRegistry, "revoked");
+        for (TokenVerification.Status status : TokenVerification.Status.values()) {
+            if (status != TokenVerification.Status.VALID) {
+                rejectionCounters.put(status, rejectionCounter(meterRegistry, status.name().toLowerCase(Locale.ROOT)));
+            }
+        }
+        this.revokedCounter = rejectionCounter(meterRegistry, "revoked");
+    }
+
+    // 랜딩 페이지 정적 리소스/로그인 경로와 CORS preflight는 쿠키 파싱과 서명 검증 없이 통과시킵니다.
+    // (요청 대부분이 정적 리소스이므로 가장 큰 비용 절감 구간)
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod()) || PublicRoutes.MATCHER.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // 쿠키에서 토큰 추출 (기존 헤더 방식 + 쿠키 지원 추가)
-        String token = resolveTokenFromCookieOrHeader(request);
+        long start = System.nanoTime();
+        Timer timer = anonymousTimer;
 
-        // 1. 헤더에서 토큰을 성공적으로 추출했고, 토큰이 유효하다면
-        if (hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // 2. 토큰에서 인증 정보를 추출합니다.
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            // 3. (가장 중요) SecurityContextHolder에 인증 정보를 저장합니다.
-            // 이렇게 해야 컨트롤러나 서비스에서 @AuthenticationPrincipal 등으로 현재 사용자 정보를 가져올 수 있습니다.
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 쿠키에서 토큰 추출 (없으면 Authorization 헤더) - 원본 헤더를 직접 스캔하므로 쿠키 전체를 파싱하지 않음
+        String token = tokenResolver.resolve(request);
+
+        // 1. 헤더에서 토큰을 성공적으로 추출했다면, 서명 검증과 인증 정보 추출을 한 번에 수행합니다.
+        if (hasText(token)) {
+            TokenVerification verification = jwtTokenProvider.verifyAccessToken(token);
+            VerifiedToken verified = verification.token();
+            if (!verification.isValid()) {
+                // 형식 오류/만료 토큰은 예외 없이 상태로 돌아오므로 사유별로 집계만 하고 익명으로 진행합니다.
+                rejectionCounters.get(verification.status()).increment();
+                timer = invalidTimer;
+            } else if (tokenDenylist.isRevoked(verified.tokenId(), verified.expiresAtMillis())) {
+                // 로그아웃으로 폐기된 토큰은 인증하지 않습니다. (Bloom 필터 조회라 락/할당 없음)
+                revokedCounter.increment();
+                timer = revokedTimer;
+            } else {
+                // 2. (가장 중요) SecurityContextHolder에 인증 정보를 저장합니다.
+                // 이렇게 해야 컨트롤러나 서비스에서 @AuthenticationPrincipal 등으로 현재 사용자 정보를 가져올 수 있습니다.
+                SecurityContextHolder.getContext().setAuthentication(verified.authentication());
+                // 이후 로그에 사용자 ID를 함께 남깁니다. (RequestCorrelationFilter가 요청 종료 시 제거)
+                MDC.put(RequestCorrelationFilter.MDC_USER_ID, verified.userId());
+                // 만료가 가까우면 응답에 새 액세스 토큰 쿠키를 실어 보냅니다. (응답이 커밋되기 전, 체인 진행 전에 헤더 추가)
+                String reissued = tokenReissuer.reissueIfExpiring(verified);
+                if (reissued != null) {
+                    response.addHeader(HttpHeaders.SET_COOKIE, cookieUtil.accessTokenCookie(reissued).toString());
+                }
+                timer = authenticatedTimer;
+            }
         }
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         filterChain.doFilter(request, response);
     }
 
-    // 쿠키 우선으로 토큰 추출 (없으면 헤더 확인)
-    private String resolveTokenFromCookieOrHeader(HttpServletRequest request) {
-        // 쿠키에서 "accessToken" 추출
-        if (request.getCookies() != null) {
-            String cookieToken = Arrays.stream(request.getCookies())
-                    .filter(cookie -> "accessToken".equals(cookie.getName()))
-                    .map(Cookie::getValue)
-                    .findFirst()
-                    .orElse(null);
-            if (hasText(cookieToken)) {
-                return cookieToken;
-            }
-        }
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.token.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
 
-        // 쿠키 없으면 기존 헤더 방식 (Authorization: Bearer)
-        String bearerToken = request.getHeader("Authorization");
-        if (hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.filter")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
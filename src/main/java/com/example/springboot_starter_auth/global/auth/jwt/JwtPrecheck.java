@@ -0,0 +1,199 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 서명 검증 전에 하는 값싼 형식 검사입니다. (Base64 디코딩 전체나 HMAC 계산, 예외 생성 없이 거를 수 있는 토큰을 먼저 거름)
+ *
+ * 여기서의 판정은 "거절"에만 쓰입니다. 통과한 토큰은 반드시 JwtParser로 서명을 검증하므로,
+ * 헤더나 payload를 조작해 이 단계를 통과시켜도 검증을 우회할 수 없습니다.
+ */
+final class JwtPrecheck {
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final byte[] ALG_KEY = "alg".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP_KEY = "exp".getBytes(StandardCharsets.US_ASCII);
+
+    static final long NO_EXPIRY = -1;
+
+    private JwtPrecheck() {}
+
+    /**
+     * header.payload.signature 세 구간이 모두 비어 있지 않고 Base64URL 문자로만 이루어졌는지 확인합니다.
+     * @return 두 번째 '.'의 위치 (형식이 틀리면 -1)
+     */
+    static int structure(String token, int maxLength) {
+        int length = token.length();
+        if (length > maxLength) {
+            return -1;
+        }
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return -1;  // 구간이 4개 이상 (JWE 등)
+                }
+            } else if (!isBase64Url(c)) {
+                return -1;
+            }
+        }
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot >= length - 1) {
+            return -1;
+        }
+        return secondDot;
+    }
+
+    /**
+     * 헤더의 최상위 alg 값을 꺼냅니다.
+     * @return alg 값, 디코딩할 수 없거나 alg가 없거나 여러 번 나오면 null
+     */
+    static String algorithm(String token) {
+        byte[] header = decode(token, 0, token.indexOf('.'));
+        if (header == null) {
+            return null;
+        }
+        int start = topLevelValueStart(header, ALG_KEY);
+        if (start < 0 || header[start] != '"') {
+            return null;
+        }
+        for (int i = start + 1; i < header.length; i++) {
+            if (header[i] == '"') {
+                return new String(header, start + 1, i - start - 1, StandardCharsets.US_ASCII);
+            }
+            if (header[i] == '\\') {
+                return null;  // 이스케이프된 alg는 우리가 발급한 형식이 아님
+            }
+        }
+        return null;
+    }
+
+    /**
+     * payload의 최상위 exp(초)를 꺼냅니다. (중첩 객체 안의 exp는 무시)
+     * 숫자 exp가 없거나 여러 번 나오는 등 모호하면 NO_EXPIRY를 반환하고, 판정은 서명 검증 단계에 맡깁니다.
+     */
+    static long expirySeconds(String token, int payloadEnd) {
+        byte[] payload = decode(token, token.indexOf('.') + 1, payloadEnd);
+        if (payload == null) {
+            return NO_EXPIRY;
+        }
+        int start = topLevelValueStart(payload, EXP_KEY);
+        if (start < 0) {
+            return NO_EXPIRY;
+        }
+        long value = 0;
+        int i = start;
+        for (; i < payload.length && payload[i] >= '0' && payload[i] <= '9'; i++) {
+            if (i - start >= 18) {
+                return NO_EXPIRY;  // 비정상적으로 큰 값은 파서에 맡김
+            }
+            value = value * 10 + (payload[i] - '0');
+        }
+        return i > start ? value : NO_EXPIRY;
+    }
+
+    private static byte[] decode(String token, int start, int end) {
+        if (start < 0 || end <= start) {
+            return null;
+        }
+        try {
+            return DECODER.decode(token.substring(start, end));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 최상위 객체에서 key의 값이 시작하는 위치를 찾습니다. 문자열과 중첩 객체/배열은 건너뜁니다.
+     * key는 이스케이프 없이 그대로 비교하며, 이스케이프로 쓴 key는 찾지 못한 것으로 봅니다. (파서에 맡김)
+     * @return 값 시작 위치, key가 없거나 두 번 이상 나오거나 JSON 객체가 아니면 -1
+     */
+    private static int topLevelValueStart(byte[] json, byte[] key) {
+        int i = skipWhitespace(json, 0);
+        if (i >= json.length || json[i] != '{') {
+            return -1;
+        }
+        int depth = 0;
+        boolean expectKey = false;
+        int found = -1;
+        for (; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                int end = stringEnd(json, i);
+                if (end < 0) {
+                    return -1;
+                }
+                if (depth == 1 && expectKey) {
+                    int colon = skipWhitespace(json, end + 1);
+                    if (colon >= json.length || json[colon] != ':') {
+                        return -1;
+                    }
+                    if (regionEquals(json, i + 1, end, key)) {
+                        int value = skipWhitespace(json, colon + 1);
+                        if (found >= 0 || value >= json.length) {
+                            return -1;  // 중복 key (파서마다 처리가 다름)
+                        }
+                        found = value;
+                    }
+                    expectKey = false;
+                    i = colon;
+                } else {
+                    i = end;
+                }
+            } else if (b == '{' || b == '[') {
+                depth++;
+                if (depth == 1) {
+                    expectKey = true;
+                }
+            } else if (b == '}' || b == ']') {
+                if (--depth == 0) {
+                    return found;
+                }
+            } else if (b == ',' && depth == 1) {
+                expectKey = true;
+            }
+        }
+        return -1;  // 닫히지 않은 객체
+    }
+
+    // start의 '"'로 시작하는 문자열의 닫는 '"' 위치 (없으면 -1)
+    private static int stringEnd(byte[] json, int start) {
+        for (int i = start + 1; i < json.length; i++) {
+            if (json[i] == '\\') {
+                i++;
+            } else if (json[i] == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(byte[] json, int start, int end, byte[] key) {
+        if (end - start != key.length) {
+            return false;
+        }
+        for (int j = 0; j < key.length; j++) {
+            if (json[start + j] != key[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(byte[] json, int i) {
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
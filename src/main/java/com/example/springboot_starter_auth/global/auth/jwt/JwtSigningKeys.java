@@ -0,0 +1,227 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JWT 서명/검증 키 묶음입니다.
+ *
+ * HMAC: jwt.secret 하나로 서명하고 검증합니다. (기존 방식, 다른 서비스가 검증하려면 시크릿을 공유해야 함)
+ * ES256: 활성 개인 키(active-kid)로 서명하고 헤더에 kid를 남기며, 검증은 kid로 공개 키 목록에서 찾습니다.
+ *        공개 키는 /.well-known/jwks.json으로 공개되므로 다른 서비스는 시크릿 공유나 인증 서버 호출 없이 로컬에서 검증할 수 있습니다.
+ *
+ * 무중단 키 교체 (ES256)
+ * 1. 새 공개 키를 public-keys에 추가해 배포하고, JWKS 캐시 시간(jwt.jwks.max-age-seconds)만큼 기다립니다.
+ * 2. active-kid/private-key를 새 키로 바꿔 배포합니다. (이전 키로 서명된 토큰도 계속 검증됨)
+ * 3. 이전 키로 발급된 리프레시 토큰까지 만료된 뒤 public-keys에서 이전 키를 제거합니다.
+ */
+@Slf4j
+@Component
+public class JwtSigningKeys {
+
+    public static final String HMAC = "HMAC";
+    public static final String ES256 = "ES256";
+
+    private final SecretKey hmacKey;              // HMAC 서명 키, 또는 ES256 전환 중 기존 토큰 검증용 (비활성 시 null)
+    private final String activeKeyId;             // ES256 서명 키 ID (HMAC이면 null)
+    private final PrivateKey activePrivateKey;
+    private final Map<String, ECPublicKey> publicKeys;
+    private final Set<String> verificationAlgorithms;
+    private final Locator<Key> keyLocator = new KidKeyLocator();
+
+    public JwtSigningKeys(@Value("${jwt.secret}") String secret,
+                          @Value("${jwt.signing.algorithm:" + HMAC + "}") String algorithm,
+                          @Value("${jwt.signing.active-kid:}") String activeKeyId,
+                          @Value("${jwt.signing.private-key:}") String privateKey,
+                          @Value("${jwt.signing.public-keys:}") String publicKeys,
+                          @Value("${jwt.signing.accept-hmac-tokens:true}") boolean acceptHmacTokens) {
+        String mode = algorithm.trim().toUpperCase(Locale.ROOT);
+        if (!HMAC.equals(mode) && !ES256.equals(mode)) {
+            throw new IllegalArgumentException("Unsupported jwt.signing.algorithm: " + algorithm);
+        }
+        boolean hmacSigning = HMAC.equals(mode);
+
+        if (hmacSigning || acceptHmacTokens) {
+            if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+                throw new IllegalArgumentException("JWT secret key must be at least 256 bits");
+            }
+            this.hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        } else {
+            this.hmacKey = null;
+        }
+
+        Map<String, ECPublicKey> keys = parsePublicKeys(publicKeys);
+        if (hmacSigning) {
+            this.activeKeyId = null;
+            this.activePrivateKey = null;
+        } else if (privateKey.isBlank()) {
+            // 로컬에서 키 없이 ES256을 시험해 볼 때만 사용 (재시작하면 이전 토큰은 모두 무효)
+            KeyPair generated = generateKeyPair();
+            this.activeKeyId = "ephemeral-" + UUID.randomUUID();
+            this.activePrivateKey = generated.getPrivate();
+            keys.put(this.activeKeyId, (ECPublicKey) generated.getPublic());
+            log.warn("No jwt.signing.private-key configured - generated ephemeral ES256 key {}. Tokens will not survive a restart.", this.activeKeyId);
+        } else {
+            if (activeKeyId.isBlank() || !keys.containsKey(activeKeyId)) {
+                throw new IllegalArgumentException("jwt.signing.active-kid must name one of jwt.signing.public-keys");
+            }
+            this.activeKeyId = activeKeyId;
+            this.activePrivateKey = parsePrivateKey(privateKey);
+            verifyKeyPair(activePrivateKey, keys.get(activeKeyId));
+        }
+        this.publicKeys = Collections.unmodifiableMap(keys);
+
+        Set<String> algorithms = new LinkedHashSet<>();
+        if (activePrivateKey != null || !this.publicKeys.isEmpty()) {
+            algorithms.add(ES256);
+        }
+        if (hmacKey != null) {
+            // signWith(key)가 키 길이에 맞는 HS256/384/512를 고르므로 실제로 서명해 보고 확인합니다.
+            algorithms.add(JwtPrecheck.algorithm(Jwts.builder().subject("0").signWith(hmacKey).compact()));
+        }
+        this.verificationAlgorithms = Collections.unmodifiableSet(algorithms);
+
+        log.info("JWT signing: {} (kid: {}), verification keys: {}, HMAC tokens accepted: {}",
+                mode, this.activeKeyId, this.publicKeys.keySet(), hmacKey != null);
+    }
+
+    /**
+     * 활성 키로 서명합니다. (ES256이면 헤더에 kid 추가)
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (activePrivateKey == null) {
+            return builder.signWith(hmacKey);
+        }
+        return builder.header().keyId(activeKeyId).and()
+                .signWith(activePrivateKey, Jwts.SIG.ES256);
+    }
+
+    // 헤더의 kid로 검증 키를 찾는 JwtParser용 Locator (kid가 없으면 HMAC 키)
+    public Locator<Key> keyLocator() {
+        return keyLocator;
+    }
+
+    // JWKS로 공개할 검증용 공개 키 (kid -> key, HMAC 전용이면 비어 있음)
+    public Map<String, ECPublicKey> publicKeys() {
+        return publicKeys;
+    }
+
+    // 검증 시 허용하는 헤더 alg 값
+    public Set<String> verificationAlgorithms() {
+        return verificationAlgorithms;
+    }
+
+    private final class KidKeyLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            String keyId = header.getKeyId();
+            // jjwt가 찾은 키와 헤더의 alg가 맞는지 다시 확인하므로, 공개 키로 HMAC을 검증하게 만드는 알고리즘 혼동은 불가능합니다.
+            Key key = keyId == null ? hmacKey : publicKeys.get(keyId);
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown signing key: " + keyId);
+            }
+            return key;
+        }
+    }
+
+    // "kid1=BASE64,kid2=BASE64" (X.509 SubjectPublicKeyInfo DER, PEM 헤더/줄바꿈 허용)
+    private static Map<String, ECPublicKey> parsePublicKeys(String value) {
+        Map<String, ECPublicKey> keys = new LinkedHashMap<>();
+        if (value == null || value.isBlank()) {
+            return keys;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("jwt.signing.public-keys entries must be kid=base64");
+            }
+            String keyId = entry.substring(0, separator).trim();
+            try {
+                KeyFactory factory = KeyFactory.getInstance("EC");
+                ECPublicKey key = (ECPublicKey) factory.generatePublic(new X509EncodedKeySpec(decode(entry.substring(separator + 1))));
+                if (key.getParams().getCurve().getField().getFieldSize() != 256) {
+                    throw new IllegalArgumentException("ES256 requires a P-256 key: " + keyId);
+                }
+                if (keys.put(keyId, key) != null) {
+                    throw new IllegalArgumentException("Duplicate kid in jwt.signing.public-keys: " + keyId);
+                }
+            } catch (GeneralSecurityException | ClassCastException e) {
+                throw new IllegalArgumentException("Invalid EC public key for kid " + keyId, e);
+            }
+        }
+        return keys;
+    }
+
+    private static PrivateKey parsePrivateKey(String value) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decode(value)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid EC private key (PKCS#8 expected)", e);
+        }
+    }
+
+    private static byte[] decode(String pemOrBase64) {
+        String base64 = pemOrBase64.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    // 설정 실수로 짝이 맞지 않는 키를 쓰면 모든 토큰 검증이 실패하므로 시작 시 확인합니다.
+    private static void verifyKeyPair(PrivateKey privateKey, ECPublicKey publicKey) {
+        try {
+            byte[] probe = "jwt-signing-key-check".getBytes(StandardCharsets.UTF_8);
+            Signature signer = Signature.getInstance("SHA256withECDSA");
+            signer.initSign(privateKey);
+            signer.update(probe);
+            byte[] signature = signer.sign();
+
+            Signature verifier = Signature.getInstance("SHA256withECDSA");
+            verifier.initVerify(publicKey);
+            verifier.update(probe);
+            if (!verifier.verify(signature)) {
+                throw new IllegalArgumentException("jwt.signing.private-key does not match the public key of the active kid");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Failed to verify JWT signing key pair", e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("EC key generation is not available", e);
+        }
+    }
+}
@@ -1,8 +1,22 @@
 package com.example.springboot_starter_auth.global.auth.jwt;
 
+import com.example.springboot_starter_auth.global.auth.token.RefreshTokenClaims;
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import com.example.springboot_starter_auth.global.util.HashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -11,63 +25,229 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 // JWT 토큰을 생성하고, 검증하고, 정보를 추출하는 역할을 하는 핵심 클래스입니다.
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey key;
+    // 역할 정보를 담는 클레임 이름 (공백 구분 문자열, 예: "USER")
+    public static final String ROLES_CLAIM = "roles";
+    // 리프레시 토큰의 family ID 클레임 (이 클레임이 있는 토큰은 액세스 토큰으로 인정하지 않음)
+    public static final String FAMILY_CLAIM = "fid";
+    // 최초 로그인 시각 (epoch seconds) - 슬라이딩 재발급 토큰도 같은 값을 이어받아 세션 최대 길이를 제한
+    public static final String AUTH_TIME_CLAIM = "auth_time";
+    // 토큰 종류 (JWS 헤더의 typ) - 두 토큰이 같은 키로 서명되고 JWKS로 공개되므로, 다른 서비스도 typ로 액세스 토큰만 받아야 합니다.
+    // (액세스 토큰은 RFC 9068의 at+jwt, 리프레시 토큰은 외부 검증기가 기본 설정으로 받아들이지 않는 refresh+jwt)
+    public static final String ACCESS_TOKEN_TYPE = "at+jwt";
+    public static final String REFRESH_TOKEN_TYPE = "refresh+jwt";
+    // 우리가 발급하는 토큰은 300자 안팎이므로, 이보다 긴 값은 디코딩 없이 거절합니다.
+    static final int MAX_TOKEN_LENGTH = 4096;
+
+    private final JwtSigningKeys signingKeys;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
+    // JwtParser는 불변 객체라 스레드 간에 공유해도 안전하므로 한 번만 생성합니다.
+    private final JwtParser parser;
+    // 토큰 다이제스트 -> 검증 결과 (비활성화 시 null)
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+    // 역할 조합별로 하나의 불변 권한 집합을 재사용 (요청마다 DB 조회나 리스트 생성 없음)
+    private final GrantedAuthorityCache roleAuthorities = new GrantedAuthorityCache("ROLE_");
+    // 핫패스에서 레지스트리 조회가 없도록 태그 조합별 Timer를 미리 등록해 둡니다.
+    private final Timer signAccessTimer;
+    private final Timer signRefreshTimer;
+    // 검증 결과별 소요 시간 (auth.jwt.verify 지표의 outcome 태그)
+    private final Map<TokenVerification.Status, Timer> verifyTimers = new EnumMap<>(TokenVerification.Status.class);
+    // 검증 캐시 hit (outcome=cached, 서명 검증 없이 통과한 유효 토큰)
+    private final Timer verifyCachedTimer;
+    // 현재 서명 키로 발급한 헤더 구간 - 대부분의 토큰은 헤더를 디코딩하지 않고 문자열 비교로 통과
+    private final String issuedHeaderSegment;
 
-    // application.yml에 정의된 시크릿 키와 만료 시간을 주입받습니다.
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+    // 서명 키(JwtSigningKeys)와 application.yml에 정의된 만료 시간을 주입받습니다.
+    public JwtTokenProvider(JwtSigningKeys signingKeys,
                             @Value("${jwt.access-token-expiration-in-seconds}") long accessTokenExpiration,
-                            @Value("${jwt.refresh-token-expiration-in-seconds}") long refreshTokenExpiration) {
-        if (secretKey.getBytes(StandardCharsets.UTF_8).length < 32) {
-            throw new IllegalArgumentException("JWT secret key must be at least 256 bits");
-        }
+                            @Value("${jwt.refresh-token-expiration-in-seconds}") long refreshTokenExpiration,
+                            @Value("${jwt.verified-token-cache.enabled:true}") boolean cacheEnabled,
+                            @Value("${jwt.verified-token-cache.maximum-size:10000}") long cacheMaximumSize,
+                            MeterRegistry meterRegistry) {
         if (accessTokenExpiration <= 0 || refreshTokenExpiration <= 0) {
             throw new IllegalArgumentException("Token expiration time must be positive");
         }
+        if (cacheEnabled && cacheMaximumSize <= 0) {
+            throw new IllegalArgumentException("Verified token cache size must be positive");
+        }
 
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.signingKeys = signingKeys;
         this.accessTokenValidityInMilliseconds = accessTokenExpiration * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenExpiration * 1000;
+        // 헤더의 kid로 검증 키를 고릅니다. (kid 없음 = HMAC, 있으면 해당 공개 키 - 키 교체 중에도 이전 키로 검증 가능)
+        this.parser = Jwts.parser().keyLocator(signingKeys.keyLocator()).build();
+        this.verifiedTokenCache = cacheEnabled ? createVerifiedTokenCache(cacheMaximumSize) : null;
+
+        this.signAccessTimer = Timer.builder("auth.jwt.sign").tag("type", "access").register(meterRegistry);
+        this.signRefreshTimer = Timer.builder("auth.jwt.sign").tag("type", "refresh").register(meterRegistry);
+        // 현재 키로 실제 서명해 본 액세스 토큰에서 헤더를 얻습니다.
+        String sample = signingKeys.sign(Jwts.builder().header().type(ACCESS_TOKEN_TYPE).and().subject("0")).compact();
+        this.issuedHeaderSegment = sample.substring(0, sample.indexOf('.') + 1);
+
+        for (TokenVerification.Status outcome : TokenVerification.Status.values()) {
+            verifyTimers.put(outcome, Timer.builder("auth.jwt.verify")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.verifyCachedTimer = Timer.builder("auth.jwt.verify").tag("outcome", "cached").register(meterRegistry);
+        if (verifiedTokenCache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokenCache, "jwt.verified-token");
+        }
     }
 
     /**
-     * 사용자의 ID를 기반으로 Access Token을 생성합니다.
+     * 사용자의 ID와 역할을 기반으로 Access Token을 생성합니다.
      * @param userId 우리 서비스의 User ID
+     * @param role 사용자 역할 (요청마다 DB를 조회하지 않도록 토큰에 함께 저장)
      * @return 생성된 JWT 문자열
      */
-    public String createAccessToken(Long userId) {
+    public String createAccessToken(Long userId, Role role) {
+        return buildAccessToken(userId.toString(), role.name(), System.currentTimeMillis());
+    }
+
+    /**
+     * 만료가 가까운 유효한 액세스 토큰을 같은 사용자/역할/최초 로그인 시각으로 새로 발급합니다. (jti와 exp만 새로 정해짐)
+     * @param verified 서명 검증을 통과한 기존 토큰
+     * @return 새 액세스 토큰
+     */
+    public String reissueAccessToken(VerifiedToken verified) {
+        return buildAccessToken(verified.userId(), verified.roles(), verified.authTimeMillis());
+    }
+
+    private String buildAccessToken(String subject, String roles, long authTimeMillis) {
+        long start = System.nanoTime();
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
 
-        return Jwts.builder()
-                .subject(userId.toString()) // 토큰의 주체로 사용자 ID를 저장
+        String token = signingKeys.sign(Jwts.builder()
+                .header().type(ACCESS_TOKEN_TYPE).and() // 토큰 종류 (리프레시 토큰과 구분)
+                .subject(subject) // 토큰의 주체로 사용자 ID를 저장
+                .id(UUID.randomUUID().toString()) // 로그아웃 시 폐기 대상으로 지정할 토큰 ID (jti)
+                .claim(ROLES_CLAIM, roles) // 토큰의 역할 정보
+                .claim(AUTH_TIME_CLAIM, authTimeMillis / 1000) // 최초 로그인 시각
                 .issuedAt(now) // 토큰 발급 시간
-                .expiration(validity) // 토큰 만료 시간
-                .signWith(key) // 1. signWith(key, algorithm) 대신 signWith(key) 사용
-                .compact();
+                .expiration(validity)) // 토큰 만료 시간
+                .compact(); // 활성 키로 서명 (HMAC 또는 kid 헤더가 붙은 ES256)
+        signAccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    public long getAccessTokenValidityInMilliseconds() {
+        return accessTokenValidityInMilliseconds;
     }
 
-    public String createRefreshToken(Long userId) {
+    /**
+     * 회전(rotation) 추적이 가능한 Refresh Token을 생성합니다.
+     * @param userId 우리 서비스의 User ID
+     * @param tokenId 토큰 ID (jti)
+     * @param familyId 같은 로그인에서 이어지는 토큰 묶음 ID
+     * @return 생성된 JWT 문자열
+     */
+    public String createRefreshToken(Long userId, String tokenId, String familyId) {
+        long start = System.nanoTime();
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
 
-        return Jwts.builder()
+        String token = signingKeys.sign(Jwts.builder()
+                .header().type(REFRESH_TOKEN_TYPE).and()
                 .subject(userId.toString())
+                .id(tokenId)
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(now)
-                .expiration(validity)
-                .signWith(key) // 1. signWith(key, algorithm) 대신 signWith(key) 사용
+                .expiration(validity))
                 .compact();
+        signRefreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    public long getRefreshTokenValidityInMilliseconds() {
+        return refreshTokenValidityInMilliseconds;
+    }
+
+    /**
+     * 리프레시 토큰의 서명과 만료를 검증하고 회전에 필요한 정보를 추출합니다.
+     * @param token 리프레시 토큰 문자열
+     * @return 유효한 리프레시 토큰이면 추출한 정보, 아니면 빈 Optional
+     */
+    public Optional<RefreshTokenClaims> parseRefreshToken(String token) {
+        if (precheckStructure(token) != null) {
+            return Optional.empty();
+        }
+        try {
+            Jws<Claims> jws = parser.parseSignedClaims(token);
+            Claims claims = jws.getPayload();
+            String familyId = claims.get(FAMILY_CLAIM, String.class);
+            // 액세스 토큰으로는 재발급할 수 없습니다.
+            if (!hasType(jws, REFRESH_TOKEN_TYPE) || familyId == null || claims.getId() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RefreshTokenClaims(claims.getId(), familyId, Long.valueOf(claims.getSubject())));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 서명 검증과 정보 추출을 한 번의 파싱으로 처리합니다.
+     * @param token 검증할 JWT 문자열
+     * @return 유효하면 검증 결과, 아니면 빈 Optional
+     * @see #verifyAccessToken(String)
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        return Optional.ofNullable(verifyAccessToken(token).token());
+    }
+
+    /**
+     * 액세스 토큰을 검증하고 결과를 상태로 돌려줍니다. (실패 시 예외를 던지지 않음)
+     *
+     * 1. 구조/길이/알고리즘 검사 - 디코딩이나 서명 계산 없이 쓰레기 값을 거름
+     * 2. 검증 캐시 - 같은 토큰이 반복해서 들어오면 캐시된 결과를 재사용 (항목은 토큰의 exp 시각에 함께 만료)
+     * 3. payload의 exp 검사 - 만료된 쿠키를 반복 전송하는 봇 트래픽은 HMAC 계산 없이 거절
+     * 4. 서명 검증과 클레임 추출
+     * 1, 3단계는 거절만 할 수 있으므로 통과한 토큰은 항상 4단계의 서명 검증을 거칩니다.
+     */
+    public TokenVerification verifyAccessToken(String token) {
+        long start = System.nanoTime();
+        TokenVerification.Status rejected = precheckStructure(token);
+        if (rejected != null) {
+            return reject(rejected, start);
+        }
+
+        String cacheKey = null;
+        if (verifiedTokenCache != null) {
+            cacheKey = HashUtil.sha256(token);
+            VerifiedToken cached = verifiedTokenCache.getIfPresent(cacheKey);
+            // 만료 처리는 캐시가 하지만, 만료 직후 아직 제거되지 않은 항목을 신뢰하지 않도록 한 번 더 확인합니다.
+            if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+                verifyCachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return TokenVerification.valid(cached);
+            }
+        }
+
+        // jjwt와 같은 기준(현재 시각이 exp 이후면 만료, 허용 오차 없음)으로 판단합니다.
+        long expirySeconds = JwtPrecheck.expirySeconds(token, token.lastIndexOf('.'));
+        if (expirySeconds != JwtPrecheck.NO_EXPIRY && System.currentTimeMillis() > expirySeconds * 1000) {
+            return reject(TokenVerification.Status.EXPIRED, start);
+        }
+
+        TokenVerification result = parseAndVerify(token, start);
+        if (result.isValid() && cacheKey != null) {
+            verifiedTokenCache.put(cacheKey, result.token());
+        }
+        return result;
     }
 
     /**
@@ -76,13 +256,7 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            // 토큰이 만료되었거나, 서명이 잘못되었거나 등등...
-            return false;
-        }
+        return verifyAccessToken(token).isValid();
     }
 
     /**
@@ -91,15 +265,113 @@ public class JwtTokenProvider {
      * @return Spring Security가 사용할 인증 정보
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        String userId = claims.getSubject();
+        return verify(token)
+                .map(VerifiedToken::authentication)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
+    }
+
+    // 검증 캐시의 hit/miss/eviction 통계 (캐시 비활성화 시 빈 통계)
+    public CacheStats getVerifiedTokenCacheStats() {
+        return verifiedTokenCache != null ? verifiedTokenCache.stats() : CacheStats.empty();
+    }
+
+    // 서명 검증 전 형식 검사 (통과하면 null)
+    private TokenVerification.Status precheckStructure(String token) {
+        if (token == null || JwtPrecheck.structure(token, MAX_TOKEN_LENGTH) < 0) {
+            return TokenVerification.Status.MALFORMED;
+        }
+        // 현재 키로 발급한 헤더와 같으면 디코딩 없이 통과, 다르면 alg만 확인 (alg=none 등은 여기서 거절)
+        if (token.startsWith(issuedHeaderSegment)) {
+            return null;
+        }
+        String algorithm = JwtPrecheck.algorithm(token);
+        if (algorithm == null) {
+            return TokenVerification.Status.MALFORMED;
+        }
+        return signingKeys.verificationAlgorithms().contains(algorithm) ? null : TokenVerification.Status.UNSUPPORTED_ALGORITHM;
+    }
+
+    // typ가 기대한 종류인지 확인 (대소문자 무시, RFC 7515)
+    // typ 도입 이전에 발급된 토큰은 typ가 없으므로 family 클레임 유무로만 구분합니다. (기존 리프레시 토큰이 모두 만료되면 null 허용 제거)
+    private static boolean hasType(Jws<Claims> jws, String expected) {
+        String type = jws.getHeader().getType();
+        return type == null || expected.equalsIgnoreCase(type);
+    }
+
+    private TokenVerification reject(TokenVerification.Status status, long start) {
+        verifyTimers.get(status).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return TokenVerification.failure(status);
+    }
+
+    // 실제 서명 검증 (캐시 miss 시에만 호출) - 결과별로 auth.jwt.verify 지표에 기록합니다.
+    private TokenVerification parseAndVerify(String token, long start) {
+        TokenVerification.Status outcome = TokenVerification.Status.MALFORMED;
+        try {
+            Jws<Claims> jws = parser.parseSignedClaims(token);
+            Claims claims = jws.getPayload();
+            // 우리가 발급한 토큰은 항상 exp를 가지므로, exp가 없는 토큰은 신뢰하지 않습니다.
+            // 리프레시 토큰(typ 또는 family 클레임)으로는 API를 호출할 수 없습니다.
+            if (claims.getExpiration() == null || !hasType(jws, ACCESS_TOKEN_TYPE) || claims.containsKey(FAMILY_CLAIM)) {
+                outcome = TokenVerification.Status.REJECTED;
+                return TokenVerification.failure(outcome);
+            }
+            String userId = claims.getSubject();
+
+            // 역할 클레임이 없는 토큰(역할 도입 이전 발급분)은 기본 역할로 간주합니다.
+            String roles = claims.get(ROLES_CLAIM, String.class);
+            if (roles == null) {
+                roles = Role.USER.name();
+            }
+            Set<GrantedAuthority> authorities = roleAuthorities.get(roles);
+            // auth_time 도입 이전 발급분은 발급 시각을 최초 로그인 시각으로 봅니다.
+            Long authTime = claims.get(AUTH_TIME_CLAIM, Long.class);
+            long authTimeMillis = authTime != null ? authTime * 1000
+                    : claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : System.currentTimeMillis();
+
+            // UserDetails 객체를 만들어 Authentication으로 반환합니다.
+            // 이 UserDetails는 Spring Security가 내부적으로 사용자를 식별하는 데 사용됩니다.
+            UserDetails principal = new User(userId, "", authorities);
+            Authentication authentication = new UsernamePasswordAuthenticationToken(principal, "", authorities);
+            outcome = TokenVerification.Status.VALID;
+            return TokenVerification.valid(new VerifiedToken(userId, claims.getId(), claims.getExpiration().getTime(),
+                    roles, authTimeMillis, authentication));
+        } catch (ExpiredJwtException e) {
+            // exp가 payload 형식 검사에서 읽히지 않은 경우 (드묾)
+            outcome = TokenVerification.Status.EXPIRED;
+            return TokenVerification.failure(outcome);
+        } catch (SignatureException e) {
+            outcome = TokenVerification.Status.BAD_SIGNATURE;
+            return TokenVerification.failure(outcome);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 형식이 잘못된 토큰 등등...
+            return TokenVerification.failure(outcome);
+        } finally {
+            verifyTimers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Cache<String, VerifiedToken> createVerifiedTokenCache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    // 캐시 항목의 수명 = 토큰의 남은 유효 시간
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
 
-        //todo: 사용자 역할 정보 조회 로직 추가
-        Collection<? extends GrantedAuthority> authorities = Collections.emptyList();
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
 
-        // UserDetails 객체를 만들어 Authentication으로 반환합니다.
-        // 이 UserDetails는 Spring Security가 내부적으로 사용자를 식별하는 데 사용됩니다.
-        UserDetails principal = new User(userId, "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
     }
 }
@@ -0,0 +1,114 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import com.example.springboot_starter_auth.global.util.CookieUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Enumeration;
+
+/**
+ * 요청에서 액세스 토큰을 꺼냅니다. (쿠키 우선, 없으면 Authorization 헤더)
+ *
+ * request.getCookies()는 쿠키 전체(분석 도구 쿠키 포함)를 Cookie 객체 배열로 파싱하므로,
+ * 원본 Cookie 헤더 문자열에서 필요한 이름만 찾아 값 부분만 잘라냅니다. 다른 쿠키는 파싱하지 않으며,
+ * 새로 할당하는 것은 최종 토큰 문자열뿐입니다.
+ */
+@Component
+public class JwtTokenResolver {
+
+    private final String cookieName;
+    private final String headerScheme;
+
+    public JwtTokenResolver(@Value("${jwt.token-resolver.cookie-name:" + CookieUtil.ACCESS_TOKEN_COOKIE + "}") String cookieName,
+                            @Value("${jwt.token-resolver.header-scheme:Bearer}") String headerScheme) {
+        if (cookieName.isEmpty() || !isToken(cookieName) || headerScheme.isEmpty() || !isToken(headerScheme)) {
+            throw new IllegalArgumentException("Invalid token resolver settings - cookie-name: " + cookieName + ", header-scheme: " + headerScheme);
+        }
+        this.cookieName = cookieName;
+        this.headerScheme = headerScheme;
+    }
+
+    /**
+     * @return 토큰 문자열, 없으면 null
+     */
+    public String resolve(HttpServletRequest request) {
+        // HTTP/2에서는 Cookie 헤더가 여러 줄로 나뉘어 올 수 있습니다.
+        Enumeration<String> cookieHeaders = request.getHeaders(HttpHeaders.COOKIE);
+        while (cookieHeaders != null && cookieHeaders.hasMoreElements()) {
+            String token = findCookieValue(cookieHeaders.nextElement());
+            if (token != null) {
+                return token;
+            }
+        }
+        return fromAuthorization(request.getHeader(HttpHeaders.AUTHORIZATION));
+    }
+
+    // "a=1; accessToken=xxx; _ga=..." 에서 이름이 일치하는 첫 쿠키의 값
+    String findCookieValue(String header) {
+        int length = header.length();
+        int nameLength = cookieName.length();
+        int i = 0;
+        while (i < length) {
+            // 구분자 뒤 공백 건너뛰기
+            while (i < length && (header.charAt(i) == ' ' || header.charAt(i) == '\t')) {
+                i++;
+            }
+            int end = header.indexOf(';', i);
+            if (end < 0) {
+                end = length;
+            }
+            if (header.startsWith(cookieName, i) && i + nameLength < end && header.charAt(i + nameLength) == '=') {
+                int valueStart = i + nameLength + 1;
+                int valueEnd = end;
+                while (valueEnd > valueStart && (header.charAt(valueEnd - 1) == ' ' || header.charAt(valueEnd - 1) == '\t')) {
+                    valueEnd--;
+                }
+                // 따옴표로 감싼 값 ("xxx")
+                if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"' && header.charAt(valueEnd - 1) == '"') {
+                    valueStart++;
+                    valueEnd--;
+                }
+                if (valueEnd > valueStart) {
+                    return header.substring(valueStart, valueEnd);
+                }
+            }
+            i = end + 1;
+        }
+        return null;
+    }
+
+    // "Bearer xxx" (스킴은 대소문자 구분 없음)
+    String fromAuthorization(String header) {
+        if (header == null) {
+            return null;
+        }
+        int schemeLength = headerScheme.length();
+        if (header.length() <= schemeLength + 1
+                || !header.regionMatches(true, 0, headerScheme, 0, schemeLength)
+                || header.charAt(schemeLength) != ' ') {
+            return null;
+        }
+        int start = schemeLength + 1;
+        int end = header.length();
+        while (start < end && header.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && header.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return end > start ? header.substring(start, end) : null;
+    }
+
+    // RFC 7230 token 문자만 허용 (구분자/공백이 들어가면 헤더 스캔이 어긋남)
+    private static boolean isToken(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c >= 0x7f || "()<>@,;:\\\"/[]?={}".indexOf(c) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 슬라이딩 세션: 유효한 액세스 토큰의 만료가 window 안으로 들어오면 새 토큰을 발급합니다.
+ * 활동 중인 사용자는 리프레시 호출이나 카카오 재로그인 없이 로그인 상태가 유지됩니다.
+ *
+ * 같은 세션(기존 토큰의 jti)의 병렬 요청은 Caffeine의 키 단위 원자적 계산으로 한 번만 발급하고 같은 토큰을 나눠 받습니다.
+ * 기록은 window 동안만 보관하므로 메모리는 "window 안에 재발급한 세션 수"로 제한됩니다.
+ * 재발급 토큰은 최초 로그인 시각(auth_time)을 이어받으며, 그로부터 max-session이 지나면 더 이상 연장하지 않습니다.
+ *
+ * 재발급 직후에도 이전 토큰은 자기 exp(최대 window 뒤)까지 유효하므로, 이전/새 토큰의 연결을 window 동안 보관해
+ * 로그아웃 시 어느 쪽 토큰으로 요청하든 둘 다 폐기할 수 있게 합니다. (linkedTokens)
+ * 이전 토큰은 재발급 후 window 안에 만료되므로 한 단계 연결만으로 충분합니다.
+ * 연결 기록은 노드 메모리에만 있으므로, TokenDenylist와 마찬가지로 여러 노드에서는 재발급한 노드에서만 적용됩니다.
+ */
+@Component
+public class SlidingTokenReissuer {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final long maxSessionMillis;
+    // 기존 토큰 jti(없으면 사용자 ID) -> 재발급한 토큰
+    private final Cache<String, Reissue> reissued;
+    // 재발급한 토큰 jti -> 이전 토큰
+    private final Cache<String, VerifiedToken> predecessors;
+    private final Counter reissuedCounter;
+
+    public SlidingTokenReissuer(JwtTokenProvider jwtTokenProvider,
+                                @Value("${jwt.sliding-reissue.enabled:true}") boolean enabled,
+                                @Value("${jwt.sliding-reissue.window-seconds:300}") long windowSeconds,
+                                @Value("${jwt.sliding-reissue.max-session-seconds:${jwt.refresh-token-expiration-in-seconds}}") long maxSessionSeconds,
+                                @Value("${jwt.sliding-reissue.maximum-size:100000}") long maximumSize,
+                                MeterRegistry meterRegistry) {
+        this.windowMillis = windowSeconds * 1000;
+        if (enabled && (windowMillis <= 0 || windowMillis >= jwtTokenProvider.getAccessTokenValidityInMilliseconds())) {
+            // window가 토큰 수명 이상이면 모든 요청에서 재발급하게 됩니다.
+            throw new IllegalArgumentException("jwt.sliding-reissue.window-seconds must be positive and shorter than the access token lifetime");
+        }
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.maxSessionMillis = maxSessionSeconds * 1000;
+        this.reissued = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .maximumSize(maximumSize)
+                .build();
+        this.predecessors = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .maximumSize(maximumSize)
+                .build();
+        this.reissuedCounter = meterRegistry.counter("auth.token.reissued");
+    }
+
+    /**
+     * 만료가 가까우면 새 액세스 토큰을 반환합니다.
+     * @param verified 서명 검증과 폐기 확인을 통과한 토큰
+     * @return 새 토큰, 재발급 대상이 아니면 null
+     */
+    public String reissueIfExpiring(VerifiedToken verified) {
+        if (!enabled) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (verified.expiresAtMillis() - now > windowMillis || now - verified.authTimeMillis() >= maxSessionMillis) {
+            return null;
+        }
+        String sessionKey = verified.tokenId() != null ? verified.tokenId() : verified.userId();
+        return reissued.get(sessionKey, key -> {
+            reissuedCounter.increment();
+            String token = jwtTokenProvider.reissueAccessToken(verified);
+            // 로그아웃 시 폐기할 수 있도록 새 토큰의 정확한 jti/exp를 읽어 둡니다. (세션당 토큰 수명에 한 번)
+            VerifiedToken next = jwtTokenProvider.verify(token).orElse(null);
+            if (next != null && next.tokenId() != null && verified.tokenId() != null) {
+                predecessors.put(next.tokenId(), verified);
+            }
+            return new Reissue(token, next);
+        }).token();
+    }
+
+    /**
+     * 주어진 토큰과 재발급으로 연결된, 아직 유효할 수 있는 토큰 (직전 토큰, 이미 발급한 다음 토큰)
+     * 로그아웃 시 현재 쿠키의 토큰과 함께 폐기합니다.
+     */
+    public List<VerifiedToken> linkedTokens(String tokenId) {
+        List<VerifiedToken> linked = new ArrayList<>(2);
+        if (tokenId == null) {
+            return linked;
+        }
+        VerifiedToken previous = predecessors.getIfPresent(tokenId);
+        if (previous != null) {
+            linked.add(previous);
+        }
+        Reissue next = reissued.getIfPresent(tokenId);
+        if (next != null && next.verified() != null) {
+            linked.add(next.verified());
+        }
+        return linked;
+    }
+
+    private record Reissue(String token, VerifiedToken verified) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 로그아웃으로 폐기된 액세스 토큰(jti) 목록입니다.
+ *
+ * 토큰의 exp를 액세스 토큰 수명 단위의 시간 버킷으로 나누고, 버킷마다 Bloom 필터 + 정확한 jti 집합을 둡니다.
+ * 유효한 토큰의 exp는 항상 "현재 버킷" 또는 "다음 버킷"에 속하므로 슬롯 3개를 돌려 쓰며, 지난 버킷은 통째로 버립니다.
+ * 따라서 로그아웃이 아무리 많아도 메모리는 (버킷 크기 x 3)을 넘지 않습니다.
+ *
+ * 조회 경로(isRevoked)는 락을 잡지 않고 객체를 할당하지 않습니다. Bloom 필터가 양성일 때만 정확한 집합으로 확인합니다.
+ * 정확한 집합이 상한에 도달한 버킷은 Bloom 양성을 그대로 폐기로 간주합니다. (오탐 시 재로그인 필요, 폐기 누락은 없음)
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+    private static final int SLOTS = 3;
+
+    private final long bucketWidthMillis;
+    private final int bitCount;
+    private final int hashCount;
+    private final int maxExactEntries;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(SLOTS);
+
+    public TokenDenylist(@Value("${jwt.access-token-expiration-in-seconds}") long accessTokenExpiration,
+                         @Value("${jwt.denylist.expected-revocations:100000}") int expectedRevocations,
+                         @Value("${jwt.denylist.false-positive-rate:0.001}") double falsePositiveRate) {
+        if (expectedRevocations <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid token denylist sizing");
+        }
+        this.bucketWidthMillis = accessTokenExpiration * 1000;
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2 (비트 수는 마스크 연산을 위해 2의 거듭제곱으로 올림)
+        long optimalBits = (long) Math.ceil(-expectedRevocations * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(1L << 30, Long.highestOneBit(Math.max(64, optimalBits - 1)) << 1);
+        this.hashCount = Math.max(1, (int) Math.round((double) optimalBits / expectedRevocations * Math.log(2)));
+        this.maxExactEntries = expectedRevocations;
+    }
+
+    /**
+     * 토큰을 폐기 목록에 추가합니다.
+     * @param tokenId 토큰의 jti
+     * @param expiresAtMillis 토큰 만료 시각 (이 시각 이후에는 목록에서 자동으로 사라짐)
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        bucketFor(expiresAtMillis / bucketWidthMillis).add(tokenId);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다. (락 없음, 할당 없음)
+     */
+    public boolean isRevoked(String tokenId, long expiresAtMillis) {
+        if (tokenId == null) {
+            return false;
+        }
+        long epoch = expiresAtMillis / bucketWidthMillis;
+        Bucket bucket = buckets.get(slotOf(epoch));
+        if (bucket == null || bucket.epoch != epoch) {
+            return false;
+        }
+        return bucket.contains(tokenId);
+    }
+
+    // 만료된 버킷을 비워 메모리를 돌려줍니다. (버킷 교체는 revoke 시에도 일어나므로 정리 주기는 느슨해도 됩니다)
+    @Scheduled(fixedDelayString = "${jwt.denylist.rotate-interval-ms:60000}")
+    public void rotateExpiredBuckets() {
+        long currentEpoch = System.currentTimeMillis() / bucketWidthMillis;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch < currentEpoch && buckets.compareAndSet(slot, bucket, null)) {
+                log.debug("Rotated out token denylist bucket {}", bucket.epoch);
+            }
+        }
+    }
+
+    private Bucket bucketFor(long epoch) {
+        int slot = slotOf(epoch);
+        while (true) {
+            Bucket current = buckets.get(slot);
+            if (current != null && current.epoch == epoch) {
+                return current;
+            }
+            // 같은 슬롯의 이전 버킷은 이미 만료된 토큰들만 담고 있으므로 교체합니다.
+            Bucket fresh = new Bucket(epoch, bitCount, hashCount, maxExactEntries);
+            if (buckets.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static int slotOf(long epoch) {
+        return (int) (epoch % SLOTS);
+    }
+
+    private static final class Bucket {
+
+        private final long epoch;
+        private final AtomicLongArray bits;
+        private final int bitMask;
+        private final int hashCount;
+        private final int maxExactEntries;
+        private final Set<String> exact = ConcurrentHashMap.newKeySet();
+        private volatile boolean saturated;
+
+        private Bucket(long epoch, int bitCount, int hashCount, int maxExactEntries) {
+            this.epoch = epoch;
+            this.bits = new AtomicLongArray(bitCount >>> 6);
+            this.bitMask = bitCount - 1;
+            this.hashCount = hashCount;
+            this.maxExactEntries = maxExactEntries;
+        }
+
+        void add(String tokenId) {
+            // 정확한 집합에 먼저 넣어야 Bloom 양성인데 집합에 없는 순간이 생기지 않습니다.
+            if (exact.size() < maxExactEntries) {
+                exact.add(tokenId);
+            } else {
+                saturated = true;
+            }
+            long h1 = hash1(tokenId);
+            long h2 = hash2(tokenId);
+            for (int i = 0; i < hashCount; i++) {
+                setBit((int) ((h1 + i * h2) & bitMask));
+            }
+        }
+
+        boolean contains(String tokenId) {
+            long h1 = hash1(tokenId);
+            long h2 = hash2(tokenId);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = (int) ((h1 + i * h2) & bitMask);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;  // 대부분의 요청은 여기서 끝납니다.
+                }
+            }
+            return saturated || exact.contains(tokenId);
+        }
+
+        private void setBit(int bit) {
+            int index = bit >>> 6;
+            long mask = 1L << bit;
+            long word = bits.get(index);
+            while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+                word = bits.get(index);
+            }
+        }
+
+        // String.hashCode()는 문자열에 캐시되므로 반복 조회 시 추가 비용이 없습니다.
+        private static long hash1(String value) {
+            return mix(value.hashCode());
+        }
+
+        private static long hash2(String value) {
+            return mix(((long) value.hashCode() << 32) ^ value.length() ^ 0x9E3779B97F4A7C15L) | 1L;
+        }
+
+        // MurmurHash3 fmix64
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+/**
+ * 액세스 토큰 검증 결과입니다. 실패는 예외 대신 상태로 돌려주며, 실패 결과는 상태별로 하나의 인스턴스를 재사용합니다.
+ * @param status 검증 결과
+ * @param token 유효한 경우의 검증 정보 (실패 시 null)
+ */
+public record TokenVerification(Status status, VerifiedToken token) {
+
+    public enum Status {
+        VALID,
+        MALFORMED,              // 세 구간 구조/문자/길이가 JWT가 아니거나 파싱 불가
+        UNSUPPORTED_ALGORITHM,  // 헤더의 alg가 우리가 서명에 쓰는 알고리즘이 아님
+        EXPIRED,
+        BAD_SIGNATURE,
+        REJECTED                // 서명은 유효하지만 액세스 토큰으로 쓸 수 없는 토큰 (exp 없음, 리프레시 토큰)
+    }
+
+    private static final TokenVerification[] FAILURES = new TokenVerification[Status.values().length];
+
+    static {
+        for (Status status : Status.values()) {
+            if (status != Status.VALID) {
+                FAILURES[status.ordinal()] = new TokenVerification(status, null);
+            }
+        }
+    }
+
+    static TokenVerification valid(VerifiedToken token) {
+        return new TokenVerification(Status.VALID, token);
+    }
+
+    static TokenVerification failure(Status status) {
+        if (status == Status.VALID) {
+            throw new IllegalArgumentException("VALID is not a failure status");
+        }
+        return FAILURES[status.ordinal()];
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
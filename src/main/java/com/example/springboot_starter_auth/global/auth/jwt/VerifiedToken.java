@@ -0,0 +1,17 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명 검증을 통과한 JWT에서 추출한 정보입니다.
+ * 검증 캐시에 그대로 보관되어 여러 요청이 공유하므로, authentication 객체는 절대 수정하지 않습니다.
+ * @param userId 토큰의 subject (우리 서비스의 User ID)
+ * @param tokenId 토큰의 jti (로그아웃 폐기 확인용, 이전 발급분은 null)
+ * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+ * @param roles 역할 클레임 값 (슬라이딩 재발급 시 그대로 이어받음)
+ * @param authTimeMillis 최초 로그인 시각 (epoch millis, 슬라이딩 재발급의 세션 최대 길이 기준)
+ * @param authentication SecurityContext에 저장할 인증 정보
+ */
+public record VerifiedToken(String userId, String tokenId, long expiresAtMillis, String roles, long authTimeMillis,
+                            Authentication authentication) {
+}
@@ -4,8 +4,12 @@ import com.example.springboot_starter_auth.global.auth.dto.AuthResponseDto;
 import com.example.springboot_starter_auth.global.auth.dto.KakaoTokenResponseDto;
 import com.example.springboot_starter_auth.global.auth.dto.KakaoUserInfoResponseDto;
 import com.example.springboot_starter_auth.global.auth.jwt.JwtTokenProvider;
-import com.example.springboot_starter_auth.global.auth.user.entity.User;
-import com.example.springboot_starter_auth.global.auth.user.repository.UserRepository;
+import com.example.springboot_starter_auth.global.auth.user.repository.UserUpsertResult;
+import com.example.springboot_starter_auth.global.auth.user.service.KakaoUserRegistrar;
+import com.example.springboot_starter_auth.global.exception.ExternalServiceUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +18,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -21,7 +26,6 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
@@ -29,9 +33,16 @@ import java.time.Duration;
 @Slf4j
 public class AuthService {
 
-    private final UserRepository userRepository;
+    // 로그인 결과 지표 (result: new_user / returning_user / failure, source: 로그인 경로)
+    public static final String LOGIN_METRIC = "auth.login";
+
+    private final KakaoUserRegistrar kakaoUserRegistrar;
     private final JwtTokenProvider jwtTokenProvider;
-    private final WebClient webClient;
+    private final RefreshTokenService refreshTokenService;
+    private final WebClient kakaoWebClient;
+    private final KakaoCallGuard kakaoCallGuard;
+    private final AuthorizationCodeReplayCache authorizationCodeReplayCache;
+    private final MeterRegistry meterRegistry;
 
     // AuthController에서 사용할 getter 메서드들
     @Getter
@@ -47,12 +58,29 @@ public class AuthService {
     @Value("${spring.security.oauth2.client.provider.kakao.user-info-uri}")
     private String userInfoUri;
 
-    @Transactional
+    // 카카오 API 호출(최대 두 번의 외부 왕복) 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 실행합니다.
+    // 가입/갱신은 UserService.upsertKakaoUser의 짧은 트랜잭션으로 처리되며, 같은 계정의 동시 로그인은 한 번만 실행됩니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDto loginWithKakao(String code) {
         if (code == null || code.isBlank()) {
             throw new IllegalArgumentException("Authorization code is required");
         }
+        // 같은 코드의 재요청(새로고침, 프록시 재시도)은 카카오를 다시 호출하지 않고 처음 확인한 사용자를 재사용합니다.
+        UserUpsertResult user = authorizationCodeReplayCache.exchangeOnce(code, this::exchangeCode);
+
+        // 우리 서비스의 자체 JWT를 생성하여 반환합니다. (재요청에도 새 토큰 - 리프레시 토큰은 1회용이라 나눠 쓸 수 없음)
+        String accessToken = jwtTokenProvider.createAccessToken(user.userId(), user.role());
+        String refreshToken = refreshTokenService.issue(user.userId(), user.role()); // 회전 추적되는 리프레시 토큰
+        log.debug("JWT tokens created successfully for user: {}", user.userId());
 
+        return AuthResponseDto.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    // 인가 코드 교환 -> 회원 가입/갱신
+    private UserUpsertResult exchangeCode(String code) {
         try {
             // 1. 인가 코드로 카카오에 액세스 토큰을 요청합니다.
             KakaoTokenResponseDto tokenResponse = getKakaoToken(code);
@@ -61,22 +89,18 @@ public class AuthService {
             // 2. 액세스 토큰으로 카카오에 사용자 정보를 요청합니다.
             KakaoUserInfoResponseDto userInfo = getKakaoUserInfo(tokenResponse.getAccessToken());
 
-            // 3. 받은 사용자 정보로 우리 서비스의 회원을 찾거나, 없으면 새로 가입시킵니다.
-            User user = userRepository.findByKakaoId(userInfo.getId())
-                    .orElseGet(() -> registerNewUser(userInfo));
-
-            // 4. 우리 서비스의 자체 JWT를 생성하여 반환합니다.
-            String accessToken = jwtTokenProvider.createAccessToken(user.getId());
-            String refreshToken = jwtTokenProvider.createRefreshToken(user.getId()); // 필요 시 리프레시 토큰도 생성
-            log.debug("JWT tokens created successfully for user: {}", user.getId());
-
-            return AuthResponseDto.builder()
-                    .accessToken(accessToken)
-                    .refreshToken(refreshToken)
-                    .build();
+            // 3. 받은 사용자 정보로 우리 서비스의 회원을 가입시키거나 프로필을 갱신합니다. (DB 왕복 1회)
+            UserUpsertResult user = upsertUser(userInfo);
+            meterRegistry.counter(LOGIN_METRIC, "source", "kakao_callback",
+                    "result", user.created() ? "new_user" : "returning_user").increment();
+            return user;
         } catch (WebClientResponseException e) {
+            meterRegistry.counter(LOGIN_METRIC, "source", "kakao_callback", "result", "failure").increment();
             log.error("Kakao API call failed: {}", e.getMessage());
             throw new AuthenticationServiceException("카카오 API 호출에 실패했습니다.");
+        } catch (RuntimeException e) {
+            meterRegistry.counter(LOGIN_METRIC, "source", "kakao_callback", "result", "failure").increment();
+            throw e;
         }
 
     }
@@ -94,48 +118,65 @@ public class AuthService {
         formData.add("code", code);
 
         // 백엔드 서버가 클라이언트가 되서 카카오 서버로 사용자로부터 발급받은 1회용 코드를 POST 방식으로 전달해서 엑세스 토큰을 받아옴
-        return webClient.post()
+        return kakaoWebClient.post()
                 .uri(tokenUri)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
                 // 2. bodyValue 대신 body(BodyInserters.fromFormData(...)) 사용
                 .body(BodyInserters.fromFormData(formData))
                 .retrieve()
                 .bodyToMono(KakaoTokenResponseDto.class)
-                .timeout(Duration.ofSeconds(5))
+                // 엔드포인트별 bulkhead/circuit breaker/적응형 타임아웃 (거절 시에도 아래에서 같은 예외로 변환)
+                .transform(call -> kakaoCallGuard.guard(KakaoCallGuard.TOKEN, call))
                 .onErrorMap(Exception.class, e -> {
-                    log.error("Failed to get Kakao token", e);
-                    return new AuthenticationServiceException("카카오 토큰 획득 실패");
+                    logKakaoFailure("Failed to get Kakao token", e);
+                    return toLoginFailure("카카오 토큰 획득 실패", e);
                 })
                 .block();
     }
 
     // 카카오에 사용자 정보 요청
     private KakaoUserInfoResponseDto getKakaoUserInfo(String accessToken) {
-        return webClient.get()
+        return kakaoWebClient.get()
                 .uri(userInfoUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
                 .bodyToMono(KakaoUserInfoResponseDto.class)
-                .timeout(Duration.ofSeconds(5))
+                .transform(call -> kakaoCallGuard.guard(KakaoCallGuard.USER_INFO, call))
                 .onErrorMap(Exception.class, e -> {
-                    log.error("Failed to get Kakao user info", e);
-                    return new AuthenticationServiceException("카카오 사용자 정보 획득 실패");
+                    logKakaoFailure("Failed to get Kakao user info", e);
+                    return toLoginFailure("카카오 사용자 정보 획득 실패", e);
                 })
                 .block();
     }
 
-    // 신규 회원 등록
-    private User registerNewUser(KakaoUserInfoResponseDto userInfo) {
+    // 카카오가 4xx로 거절한 경우(만료/잘못된 인가 코드 등)만 클라이언트 오류, 그 외(타임아웃, 회로 차단, 5xx, 연결 실패)는 503
+    private static AuthenticationServiceException toLoginFailure(String message, Throwable e) {
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            return new AuthenticationServiceException(message);
+        }
+        return new ExternalServiceUnavailableException(message, e);
+    }
+
+    // 보호 장치에 의한 즉시 거절은 스택 트레이스 없이 남깁니다. (장애 중 로그 폭주 방지)
+    private static void logKakaoFailure(String message, Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            log.warn("{} - rejected: {}", message, e.getMessage());
+        } else {
+            log.error(message, e);
+        }
+    }
+
+    // 신규 회원 등록 또는 기존 회원 프로필 갱신
+    private UserUpsertResult upsertUser(KakaoUserInfoResponseDto userInfo) {
         KakaoUserInfoResponseDto.KakaoAccount kakaoAccount = userInfo.getKakaoAccount();
         KakaoUserInfoResponseDto.Profile profile = kakaoAccount != null ? kakaoAccount.getProfile() : null;
 
-        User newUser = User.builder()
-                .kakaoId(userInfo.getId())
-                .nickname(profile != null ? profile.getNickname() : "Unknown")
-                .profileImageUrl(profile != null ? profile.getProfileImageUrl() : null)
-                .email(kakaoAccount != null ? kakaoAccount.getEmail() : null)
-                .build();
-        return userRepository.save(newUser);
+        String nickname = profile != null && profile.getNickname() != null ? profile.getNickname() : "Unknown";
+        return kakaoUserRegistrar.register(
+                userInfo.getId(),
+                nickname,
+                profile != null ? profile.getProfileImageUrl() : null,
+                kakaoAccount != null ? kakaoAccount.getEmail() : null);
     }
 
 }
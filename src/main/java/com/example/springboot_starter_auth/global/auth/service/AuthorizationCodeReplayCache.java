@@ -0,0 +1,91 @@
+package com.example.springboot_starter_auth.global.auth.service;
+
+import com.example.springboot_starter_auth.global.auth.user.repository.UserUpsertResult;
+import com.example.springboot_starter_auth.global.util.HashUtil;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 인가 코드 -> 로그인한 사용자 단기 캐시
+ *
+ * 카카오 인가 코드는 1회용이라, 브라우저 뒤로가기/새로고침이나 프록시 재시도로 같은 콜백이 다시 들어오면
+ * 카카오 토큰 요청이 항상 실패합니다. 짧은 시간 안의 재요청에는 처음 확인한 사용자를 그대로 돌려주고,
+ * 처음 요청이 아직 진행 중이면 새로 카카오를 호출하지 않고 그 결과를 await-timeout까지 기다립니다.
+ *
+ * 토큰이 아닌 사용자만 보관하므로 재요청도 자기 토큰(새 리프레시 토큰 family)을 받습니다.
+ * (1회용 리프레시 토큰을 두 클라이언트가 나눠 가지면, 둘 다 재발급할 때 재사용으로 감지되어 family 전체가 폐기됨)
+ *
+ * 키는 코드 원문이 아닌 SHA-256 다이제스트이며, 실패한 교환은 캐시에 남지 않습니다. (Caffeine이 예외로 끝난 future를 제거)
+ * 코드를 가진 쪽은 원래도 콜백으로 로그인할 수 있으므로, TTL 동안 재요청을 받아 주는 것은 노출 범위를 넓히지 않습니다.
+ */
+@Component
+public class AuthorizationCodeReplayCache {
+
+    private final AsyncCache<String, UserUpsertResult> cache;
+    private final long awaitTimeoutMillis;
+    private final Counter replayed;
+
+    public AuthorizationCodeReplayCache(@Value("${kakao.code-replay.ttl-seconds:30}") long ttlSeconds,
+                                        @Value("${kakao.code-replay.maximum-size:10000}") long maximumSize,
+                                        @Value("${kakao.code-replay.await-timeout-ms:15000}") long awaitTimeoutMillis,
+                                        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .buildAsync();
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        // asMap() 연산은 Caffeine 통계에 잡히지 않으므로 재요청 수를 직접 셉니다.
+        this.replayed = meterRegistry.counter(AuthService.LOGIN_METRIC, "source", "kakao_callback", "result", "replayed");
+    }
+
+    /**
+     * 처음 보는 코드면 현재 스레드에서 exchange를 실행해 결과를 보관하고, 이미 본 코드면 보관된(또는 진행 중인) 결과를 반환합니다.
+     */
+    public UserUpsertResult exchangeOnce(String code, Function<String, UserUpsertResult> exchange) {
+        String key = HashUtil.sha256(code);
+        CompletableFuture<UserUpsertResult> own = new CompletableFuture<>();
+        CompletableFuture<UserUpsertResult> existing = cache.asMap().putIfAbsent(key, own);
+        if (existing != null) {
+            replayed.increment();
+            return await(existing);
+        }
+
+        try {
+            UserUpsertResult result = exchange.apply(code);
+            own.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // Error도 반드시 완료시켜야 합니다. (완료되지 않은 future는 만료되지 않아 같은 코드의 재요청이 계속 기다리게 됨)
+            own.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    private UserUpsertResult await(CompletableFuture<UserUpsertResult> future) {
+        try {
+            return future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AuthenticationServiceException("카카오 로그인 처리에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new AuthenticationServiceException("같은 인가 코드의 로그인이 아직 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("카카오 로그인 처리가 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.springboot_starter_auth.global.auth.service;
+
+import com.example.springboot_starter_auth.global.util.AdaptiveTimeout;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 카카오 API 호출 보호 (엔드포인트별: bulkhead -> circuit breaker -> 적응형 timeout)
+ *
+ * 카카오가 느려져도 요청 스레드가 모두 .block()에 묶이지 않도록 엔드포인트별 동시 호출 수를 제한하고,
+ * 실패/지연이 임계치를 넘으면 회로를 열어 카카오를 호출하지 않고 즉시 실패시킵니다.
+ * 타임아웃은 고정값 대신 최근 응답의 p99 x 배수로 정하고, 타임아웃이 나면 즉시 늘립니다. (AdaptiveTimeout 참고)
+ * WebClient의 response-timeout은 적응형 타임아웃의 max보다 길어야 합니다. (짧으면 max까지 늘어나지 못함)
+ * 거절/회로 차단/타임아웃은 호출부의 onErrorMap에서 ExternalServiceUnavailableException(503)으로 변환됩니다.
+ */
+@Slf4j
+@Component
+public class KakaoCallGuard {
+
+    public static final String TOKEN = "token";
+    public static final String USER_INFO = "user_info";
+    private static final String KAKAO_METRIC = "auth.kakao.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Map<String, AdaptiveTimeout> timeouts = new ConcurrentHashMap<>();
+    private final Duration initialTimeout;
+    private final Duration minTimeout;
+    private final Duration maxTimeout;
+    private final double timeoutPercentile;
+    private final double timeoutMultiplier;
+    private final int timeoutWindow;
+
+    public KakaoCallGuard(MeterRegistry meterRegistry,
+                          @Value("${kakao.resilience.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+                          @Value("${kakao.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                          @Value("${kakao.resilience.circuit-breaker.slow-call-threshold-ms:2000}") long slowCallThresholdMs,
+                          @Value("${kakao.resilience.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+                          @Value("${kakao.resilience.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+                          @Value("${kakao.resilience.circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+                          @Value("${kakao.resilience.circuit-breaker.open-state-duration-ms:10000}") long openStateDurationMs,
+                          @Value("${kakao.resilience.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+                          @Value("${kakao.resilience.timeout.initial-ms:3000}") long initialTimeoutMs,
+                          @Value("${kakao.resilience.timeout.min-ms:300}") long minTimeoutMs,
+                          @Value("${kakao.resilience.timeout.max-ms:5000}") long maxTimeoutMs,
+                          @Value("${kakao.resilience.timeout.percentile:0.99}") double timeoutPercentile,
+                          @Value("${kakao.resilience.timeout.multiplier:2.0}") double timeoutMultiplier,
+                          @Value("${kakao.resilience.timeout.window:512}") int timeoutWindow,
+                          @Value("${kakao.http-client.response-timeout-ms:6000}") long responseTimeoutMs) {
+        if (maxTimeoutMs >= responseTimeoutMs) {
+            throw new IllegalArgumentException("kakao.resilience.timeout.max-ms must be shorter than kakao.http-client.response-timeout-ms");
+        }
+        this.meterRegistry = meterRegistry;
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallThresholdMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(openStateDurationMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // 카카오 장애(네트워크 오류, 타임아웃, 5xx)만 실패로 셉니다. 잘못된 인가 코드(4xx)는 회로와 무관합니다.
+                .recordException(KakaoCallGuard::isKakaoFailure)
+                .build());
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)  // 가득 차면 기다리지 않고 즉시 거절
+                .build());
+        this.initialTimeout = Duration.ofMillis(initialTimeoutMs);
+        this.minTimeout = Duration.ofMillis(minTimeoutMs);
+        this.maxTimeout = Duration.ofMillis(maxTimeoutMs);
+        this.timeoutPercentile = timeoutPercentile;
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.timeoutWindow = timeoutWindow;
+
+        // resilience4j.circuitbreaker.state / resilience4j.bulkhead.available.concurrent.calls 등 (name = 엔드포인트)
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        register(TOKEN);
+        register(USER_INFO);
+    }
+
+    /**
+     * 카카오 호출 Mono에 엔드포인트별 보호를 적용합니다.
+     * 순서: bulkhead 허가 -> 회로 확인 -> 타임아웃이 걸린 실제 호출 (지연/결과는 auth.kakao.requests에 기록)
+     */
+    public <T> Mono<T> guard(String endpoint, Mono<T> call) {
+        AdaptiveTimeout timeout = timeouts.get(endpoint);
+        return call
+                .timeout(timeout.current())
+                .transform(timed -> timed(endpoint, timed, timeout))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(endpoint)))
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(endpoint)));
+    }
+
+    private void register(String endpoint) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(endpoint);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("Kakao {} circuit breaker: {} -> {}", endpoint, transition.getFromState(), transition.getToState());
+            meterRegistry.counter("auth.kakao.circuit.transitions",
+                    "endpoint", endpoint,
+                    "from", transition.getFromState().name().toLowerCase(Locale.ROOT),
+                    "to", transition.getToState().name().toLowerCase(Locale.ROOT)).increment();
+        });
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(endpoint);
+        bulkhead.getEventPublisher().onCallRejected(event ->
+                meterRegistry.counter("auth.kakao.bulkhead.rejected", "endpoint", endpoint).increment());
+
+        AdaptiveTimeout timeout = new AdaptiveTimeout(initialTimeout, minTimeout, maxTimeout,
+                timeoutPercentile, timeoutMultiplier, timeoutWindow);
+        timeouts.put(endpoint, timeout);
+        Gauge.builder("auth.kakao.timeout", timeout, AdaptiveTimeout::currentMillis)
+                .tag("endpoint", endpoint)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    // 카카오 호출 시간을 endpoint/status/outcome 태그로 기록하고, 지연을 적응형 타임아웃에 반영합니다.
+    private <T> Mono<T> timed(String endpoint, Mono<T> call, AdaptiveTimeout timeout) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> {
+                        long elapsed = System.nanoTime() - start;
+                        timeout.record(TimeUnit.NANOSECONDS.toMillis(elapsed));
+                        recordKakaoCall(endpoint, null, elapsed);
+                    })
+                    .doOnError(e -> {
+                        long elapsed = System.nanoTime() - start;
+                        if (e instanceof TimeoutException) {
+                            // 타임아웃이 계속되면 타임아웃을 늘려야 하므로 반드시 반영 (회로 half-open 시험 호출 포함)
+                            timeout.recordTimeout(TimeUnit.NANOSECONDS.toMillis(elapsed));
+                        } else if (e instanceof WebClientResponseException) {
+                            // 오류 응답도 응답을 받기까지의 실제 지연
+                            timeout.record(TimeUnit.NANOSECONDS.toMillis(elapsed));
+                        }
+                        // 연결 실패 등 응답이 없는 오류는 지연 정보가 없으므로 반영하지 않음
+                        recordKakaoCall(endpoint, e, elapsed);
+                    });
+        });
+    }
+
+    private void recordKakaoCall(String endpoint, Throwable error, long elapsedNanos) {
+        String status;
+        String outcome;
+        if (error == null) {
+            status = "2xx";
+            outcome = "success";
+        } else if (error instanceof WebClientResponseException e) {
+            status = String.valueOf(e.getStatusCode().value());
+            outcome = "http_error";
+        } else if (error instanceof TimeoutException) {
+            status = "none";
+            outcome = "timeout";
+        } else if (error instanceof WebClientRequestException) {
+            status = "none";
+            outcome = "io_error";
+        } else {
+            status = "none";
+            outcome = "error";
+        }
+        Timer.builder(KAKAO_METRIC)
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static boolean isKakaoFailure(Throwable error) {
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        return error instanceof TimeoutException || error instanceof WebClientRequestException;
+    }
+}
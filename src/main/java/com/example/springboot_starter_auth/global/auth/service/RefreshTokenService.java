@@ -0,0 +1,99 @@
+package com.example.springboot_starter_auth.global.auth.service;
+
+import com.example.springboot_starter_auth.global.auth.dto.AuthResponseDto;
+import com.example.springboot_starter_auth.global.auth.jwt.JwtTokenProvider;
+import com.example.springboot_starter_auth.global.auth.token.RefreshTokenClaims;
+import com.example.springboot_starter_auth.global.auth.token.RefreshTokenRecord;
+import com.example.springboot_starter_auth.global.auth.token.RefreshTokenStore;
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// 리프레시 토큰 발급/회전/폐기를 담당합니다. (재발급 시 카카오 호출이나 DB 조회 없이 저장소 조회 한 번으로 처리)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+
+    // 로그인 성공 시 새 family로 리프레시 토큰을 발급합니다.
+    public String issue(Long userId, Role role) {
+        return issueInFamily(userId, role, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 회전시키고 새 액세스/리프레시 토큰을 발급합니다.
+     * 이미 사용된 토큰이 다시 들어오면 탈취로 간주하고 family 전체를 폐기합니다.
+     * @param refreshToken 클라이언트가 보낸 리프레시 토큰
+     * @return 새 토큰, 재발급할 수 없으면 빈 Optional
+     */
+    public Optional<AuthResponseDto> rotate(String refreshToken) {
+        Optional<RefreshTokenClaims> parsed = jwtTokenProvider.parseRefreshToken(refreshToken);
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshTokenClaims claims = parsed.get();
+
+        if (refreshTokenStore.isFamilyRevoked(claims.familyId())) {
+            log.warn("Refresh attempted with revoked token family - user: {}", claims.userId());
+            return Optional.empty();
+        }
+
+        Optional<RefreshTokenRecord> stored = refreshTokenStore.find(claims.tokenId());
+        if (stored.isEmpty()) {
+            log.info("Unknown refresh token - user: {}", claims.userId());
+            return Optional.empty();
+        }
+
+        if (!refreshTokenStore.markUsed(claims.tokenId())) {
+            // 이미 사용된 토큰 재사용 -> 탈취 의심, 같은 로그인에서 발급된 토큰 모두 폐기
+            log.warn("Refresh token reuse detected - revoking token family for user: {}", claims.userId());
+            refreshTokenStore.revokeFamily(claims.familyId());
+            return Optional.empty();
+        }
+
+        RefreshTokenRecord record = stored.get();
+        String accessToken = jwtTokenProvider.createAccessToken(record.userId(), record.role());
+        String newRefreshToken = issueInFamily(record.userId(), record.role(), record.familyId());
+        log.debug("Refresh token rotated for user: {}", record.userId());
+
+        return Optional.of(AuthResponseDto.builder()
+                .accessToken(accessToken)
+                .refreshToken(newRefreshToken)
+                .build());
+    }
+
+    // 로그아웃 시 해당 리프레시 토큰의 family를 폐기합니다.
+    public void revoke(String refreshToken) {
+        jwtTokenProvider.parseRefreshToken(refreshToken)
+                .ifPresent(claims -> refreshTokenStore.revokeFamily(claims.familyId()));
+    }
+
+    // 회원 탈퇴 시 사용자의 모든 리프레시 토큰을 폐기합니다.
+    public void revokeAllForUser(Long userId) {
+        refreshTokenStore.revokeAllForUser(userId);
+    }
+
+    // 만료된 토큰/폐기 기록을 백그라운드에서 정리합니다.
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int purged = refreshTokenStore.purgeExpired(System.currentTimeMillis());
+        if (purged > 0) {
+            log.debug("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issueInFamily(Long userId, Role role, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + jwtTokenProvider.getRefreshTokenValidityInMilliseconds();
+        refreshTokenStore.save(new RefreshTokenRecord(tokenId, familyId, userId, role, expiresAt, false));
+        return jwtTokenProvider.createRefreshToken(userId, tokenId, familyId);
+    }
+}
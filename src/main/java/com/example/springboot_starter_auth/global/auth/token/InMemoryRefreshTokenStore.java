@@ -0,0 +1,85 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 단일 노드용 리프레시 토큰 저장소 (기본값: jwt.refresh-token.store=memory)
+ * 서버 재시작 시 저장된 토큰이 사라지므로, 사용자는 카카오 로그인을 다시 해야 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final ConcurrentMap<String, RefreshTokenRecord> tokens = new ConcurrentHashMap<>();
+    // 폐기된 family ID -> 폐기 기록 만료 시각 (이 시각 이후에는 family의 모든 토큰도 만료됨)
+    private final ConcurrentMap<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+    private final long revokedFamilyRetentionMillis;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh-token-expiration-in-seconds}") long refreshTokenExpiration) {
+        this.revokedFamilyRetentionMillis = refreshTokenExpiration * 1000;
+    }
+
+    @Override
+    public void save(RefreshTokenRecord token) {
+        tokens.put(token.tokenId(), token);
+    }
+
+    @Override
+    public Optional<RefreshTokenRecord> find(String tokenId) {
+        return Optional.ofNullable(tokens.get(tokenId));
+    }
+
+    @Override
+    public boolean markUsed(String tokenId) {
+        // 불변 레코드를 CAS로 교체하므로, 동시에 같은 토큰이 들어와도 한 요청만 성공합니다.
+        while (true) {
+            RefreshTokenRecord current = tokens.get(tokenId);
+            if (current == null || current.used() || revokedFamilies.containsKey(current.familyId())) {
+                return false;
+            }
+            if (tokens.replace(tokenId, current, current.markUsed())) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        revokedFamilies.put(familyId, System.currentTimeMillis() + revokedFamilyRetentionMillis);
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        return revokedFamilies.containsKey(familyId);
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        // 탈퇴 시에만 호출되는 드문 작업이라 전체 순회를 허용합니다.
+        for (RefreshTokenRecord token : tokens.values()) {
+            if (token.userId().equals(userId)) {
+                revokeFamily(token.familyId());
+            }
+        }
+    }
+
+    @Override
+    public int purgeExpired(long nowMillis) {
+        int purged = 0;
+        for (Iterator<RefreshTokenRecord> it = tokens.values().iterator(); it.hasNext(); ) {
+            if (it.next().isExpired(nowMillis)) {
+                it.remove();
+                purged++;
+            }
+        }
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        return purged;
+    }
+}
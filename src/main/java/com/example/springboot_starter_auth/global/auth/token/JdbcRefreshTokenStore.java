@@ -0,0 +1,156 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 노드가 공유하는 리프레시 토큰 저장소 (jwt.refresh-token.store=jdbc)
+ *
+ * DB가 기준이며, 앞단의 인메모리 저장소는 토큰 조회(find)의 캐시로만 사용합니다.
+ * - 신규 토큰은 즉시 INSERT (로그인/회전당 한 번이라 배치로 모으지 않음 - 다른 노드에서도 바로 회전 가능)
+ * - 사용 처리(markUsed)는 DB의 조건부 UPDATE 결과로 판단 (동시 요청이 여러 노드로 나뉘어도 한 요청만 성공)
+ * - family 폐기는 revoked_token_families에 기록하고, markUsed/isFamilyRevoked가 이 기록을 확인합니다.
+ *   (폐기 이후에 다른 노드가 저장한 같은 family의 토큰도 사용할 수 없음)
+ *
+ * 테이블 스키마: db/migration/V1__create_refresh_tokens.sql, V4__create_revoked_token_families.sql
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "jdbc")
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO refresh_tokens (token_id, family_id, user_id, role, expires_at, used, revoked)
+            VALUES (?, ?, ?, ?, ?, FALSE, FALSE)
+            """;
+    private static final String SELECT_SQL = """
+            SELECT token_id, family_id, user_id, role, expires_at, used
+            FROM refresh_tokens
+            WHERE token_id = ? AND revoked = FALSE
+            """;
+    private static final String MARK_USED_SQL = """
+            UPDATE refresh_tokens SET used = TRUE
+            WHERE token_id = ? AND used = FALSE AND revoked = FALSE
+              AND NOT EXISTS (SELECT 1 FROM revoked_token_families f WHERE f.family_id = refresh_tokens.family_id)
+            """;
+    private static final String REVOKE_FAMILY_SQL = "UPDATE refresh_tokens SET revoked = TRUE WHERE family_id = ?";
+    private static final String INSERT_REVOKED_FAMILY_SQL =
+            "INSERT INTO revoked_token_families (family_id, expires_at) VALUES (?, ?)";
+    private static final String IS_FAMILY_REVOKED_SQL =
+            "SELECT COUNT(*) FROM revoked_token_families WHERE family_id = ?";
+    private static final String REVOKE_USER_SQL = "UPDATE refresh_tokens SET revoked = TRUE WHERE user_id = ?";
+    private static final String INSERT_REVOKED_USER_FAMILIES_SQL = """
+            INSERT INTO revoked_token_families (family_id, expires_at)
+            SELECT DISTINCT t.family_id, CAST(? AS BIGINT) FROM refresh_tokens t
+            WHERE t.user_id = ?
+              AND NOT EXISTS (SELECT 1 FROM revoked_token_families f WHERE f.family_id = t.family_id)
+            """;
+    private static final String PURGE_SQL = "DELETE FROM refresh_tokens WHERE expires_at <= ?";
+    private static final String PURGE_REVOKED_FAMILIES_SQL = "DELETE FROM revoked_token_families WHERE expires_at <= ?";
+
+    private static final RowMapper<RefreshTokenRecord> ROW_MAPPER = (rs, rowNum) -> new RefreshTokenRecord(
+            rs.getString("token_id"),
+            rs.getString("family_id"),
+            rs.getLong("user_id"),
+            Role.valueOf(rs.getString("role")),
+            rs.getLong("expires_at"),
+            rs.getBoolean("used"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InMemoryRefreshTokenStore memory;
+    private final long revokedFamilyRetentionMillis;
+
+    public JdbcRefreshTokenStore(JdbcTemplate jdbcTemplate,
+                                 @Value("${jwt.refresh-token-expiration-in-seconds}") long refreshTokenExpiration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.memory = new InMemoryRefreshTokenStore(refreshTokenExpiration);
+        this.revokedFamilyRetentionMillis = refreshTokenExpiration * 1000;
+    }
+
+    @Override
+    public void save(RefreshTokenRecord token) {
+        jdbcTemplate.update(INSERT_SQL, token.tokenId(), token.familyId(), token.userId(), token.role().name(),
+                token.expiresAtMillis());
+        memory.save(token);
+    }
+
+    @Override
+    public Optional<RefreshTokenRecord> find(String tokenId) {
+        Optional<RefreshTokenRecord> cached = memory.find(tokenId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        // 다른 노드에서 발급된 토큰 (또는 재시작 이전 토큰)
+        List<RefreshTokenRecord> rows = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, tokenId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshTokenRecord loaded = rows.get(0);
+        memory.save(loaded);
+        return Optional.of(loaded);
+    }
+
+    @Override
+    public boolean markUsed(String tokenId) {
+        // 다른 노드에서 먼저 사용했거나 family가 폐기되었다면 0건 갱신 -> 재사용
+        if (jdbcTemplate.update(MARK_USED_SQL, tokenId) != 1) {
+            return false;
+        }
+        memory.markUsed(tokenId);
+        return true;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        memory.revokeFamily(familyId);
+        // 보안상 중요한 작업이라 즉시 반영
+        try {
+            jdbcTemplate.update(INSERT_REVOKED_FAMILY_SQL, familyId, System.currentTimeMillis() + revokedFamilyRetentionMillis);
+        } catch (DuplicateKeyException e) {
+            log.debug("Refresh token family already revoked: {}", familyId);
+        }
+        jdbcTemplate.update(REVOKE_FAMILY_SQL, familyId);
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        if (memory.isFamilyRevoked(familyId)) {
+            return true;
+        }
+        // 다른 노드에서 폐기된 family
+        Integer count = jdbcTemplate.queryForObject(IS_FAMILY_REVOKED_SQL, Integer.class, familyId);
+        if (count == null || count == 0) {
+            return false;
+        }
+        memory.revokeFamily(familyId);
+        return true;
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        memory.revokeAllForUser(userId);
+        try {
+            jdbcTemplate.update(INSERT_REVOKED_USER_FAMILIES_SQL, System.currentTimeMillis() + revokedFamilyRetentionMillis, userId);
+        } catch (DuplicateKeyException e) {
+            // 동시에 폐기된 family가 있음 - 나머지 family는 아래 UPDATE와 markUsed의 revoked 조건으로 막힘
+            log.debug("Some refresh token families of user {} were revoked concurrently", userId);
+        }
+        jdbcTemplate.update(REVOKE_USER_SQL, userId);
+    }
+
+    @Override
+    public int purgeExpired(long nowMillis) {
+        memory.purgeExpired(nowMillis);
+        jdbcTemplate.update(PURGE_REVOKED_FAMILIES_SQL, nowMillis);
+        return jdbcTemplate.update(PURGE_SQL, nowMillis);
+    }
+}
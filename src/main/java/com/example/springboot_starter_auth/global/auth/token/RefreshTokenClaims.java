@@ -0,0 +1,10 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+/**
+ * 서명 검증을 통과한 리프레시 토큰에서 추출한 정보입니다.
+ * @param tokenId 토큰의 jti
+ * @param familyId 로그인 단위 토큰 묶음 ID
+ * @param userId 우리 서비스의 User ID
+ */
+public record RefreshTokenClaims(String tokenId, String familyId, Long userId) {
+}
@@ -0,0 +1,25 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+
+/**
+ * 서버에 보관하는 리프레시 토큰 정보입니다. (토큰 원문은 저장하지 않음)
+ * 같은 로그인에서 회전(rotation)으로 이어진 토큰들은 하나의 familyId를 공유합니다.
+ * @param tokenId 토큰의 jti
+ * @param familyId 로그인 단위 토큰 묶음 ID
+ * @param userId 우리 서비스의 User ID
+ * @param role 새 액세스 토큰 발급 시 사용할 역할 (재발급 시 DB 조회 생략)
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ * @param used 이미 회전에 사용되었는지 여부
+ */
+public record RefreshTokenRecord(String tokenId, String familyId, Long userId, Role role,
+                                 long expiresAtMillis, boolean used) {
+
+    public RefreshTokenRecord markUsed() {
+        return new RefreshTokenRecord(tokenId, familyId, userId, role, expiresAtMillis, true);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
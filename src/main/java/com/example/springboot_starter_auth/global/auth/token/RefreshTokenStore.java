@@ -0,0 +1,33 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 회전(rotation) 상태 저장소입니다.
+ * 한 번 사용된 토큰이 다시 들어오면(재사용) 탈취로 간주하고 해당 family 전체를 폐기합니다.
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshTokenRecord token);
+
+    Optional<RefreshTokenRecord> find(String tokenId);
+
+    /**
+     * 아직 사용되지 않은 토큰만 원자적으로 사용 처리합니다.
+     * @return 이번 호출로 사용 처리되었으면 true, 이미 사용되었거나 폐기된 토큰이면 false (재사용 의심)
+     */
+    boolean markUsed(String tokenId);
+
+    void revokeFamily(String familyId);
+
+    boolean isFamilyRevoked(String familyId);
+
+    // 회원 탈퇴 등으로 사용자의 모든 리프레시 토큰을 폐기합니다.
+    void revokeAllForUser(Long userId);
+
+    /**
+     * 만료된 토큰과 폐기 기록을 정리합니다.
+     * @return 정리된 토큰 수
+     */
+    int purgeExpired(long nowMillis);
+}
@@ -24,8 +24,8 @@ public class UserController {
     // 현재 로그인된 사용자 정보 조회 (JavaScript에서 사용)
     @GetMapping("/info")
     public ResponseEntity<Map<String, String>> getCurrentUserInfo(Authentication authentication) {
-        Long userId = Long.valueOf(authentication.getName()); // JWT에서 userId 추출
-        String nickname = userService.getUserNickname(userId); // 실제 닉네임 조회
+        long userId = Long.parseLong(authentication.getName()); // JWT에서 userId 추출
+        String nickname = userService.getUserNickname(userId); // 실제 닉네임 조회 (프로필 캐시 경유)
         Map<String, String> userInfo = new HashMap<>();
         userInfo.put("nickname", nickname);
         return ResponseEntity.ok(userInfo);
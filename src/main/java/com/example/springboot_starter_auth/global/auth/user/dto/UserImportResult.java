@@ -0,0 +1,16 @@
+package com.example.springboot_starter_auth.global.auth.user.dto;
+
+/**
+ * 회원 대량 가져오기 결과
+ * @param read 읽은 프로필 수
+ * @param imported 새로 저장한 사용자 수
+ * @param skipped 이미 가입되어 있거나 kakaoId가 없어 건너뛴 수
+ * @param elapsedMillis 소요 시간
+ */
+public record UserImportResult(long read, long imported, long skipped, long elapsedMillis) {
+
+    // 초당 저장 건수
+    public double throughputPerSecond() {
+        return elapsedMillis == 0 ? imported : imported * 1000.0 / elapsedMillis;
+    }
+}
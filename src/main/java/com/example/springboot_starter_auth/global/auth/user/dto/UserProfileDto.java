@@ -0,0 +1,11 @@
+package com.example.springboot_starter_auth.global.auth.user.dto;
+
+/**
+ * 마이페이지 조회용 사용자 프로필 스냅샷 (불변 - 캐시에 그대로 보관)
+ * UserRepository.findProfileById의 생성자 프로젝션으로 바로 만들어집니다.
+ * @param nickname 카카오 닉네임
+ * @param profileImageUrl 프로필 이미지 URL
+ * @param email 카카오 계정 이메일
+ */
+public record UserProfileDto(String nickname, String profileImageUrl, String email) {
+}
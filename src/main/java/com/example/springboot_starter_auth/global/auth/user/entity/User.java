@@ -1,8 +1,10 @@
 package com.example.springboot_starter_auth.global.auth.user.entity;
 
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
 import com.example.springboot_starter_auth.global.config.audit.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 
 @Entity
@@ -14,8 +16,10 @@ import lombok.*;
 @Table(name = "users")
 public class User extends BaseEntity {
 
+    // IDENTITY는 insert마다 즉시 실행되어 JDBC 배치가 꺼지므로, 시퀀스에서 50개씩 미리 받아 씁니다. (V3 마이그레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq_generator")
+    @SequenceGenerator(name = "users_seq_generator", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Long id;
 
@@ -29,4 +33,11 @@ public class User extends BaseEntity {
     private String profileImageUrl;
     private String email;
 
+    // 액세스 토큰에 함께 담아 요청마다 DB 조회 없이 권한을 판단합니다.
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @ColumnDefault("'USER'") // 기존 행이 있는 테이블에 컬럼을 추가할 때의 기본값
+    @Builder.Default
+    private Role role = Role.USER;
+
 }
@@ -1,10 +1,31 @@
 package com.example.springboot_starter_auth.global.auth.user.repository;
 
+import com.example.springboot_starter_auth.global.auth.user.dto.UserProfileDto;
 import com.example.springboot_starter_auth.global.auth.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByKakaoId(Long kakaoId);
+
+    // 아래 조회는 엔티티(감사 컬럼 포함) 대신 필요한 컬럼만 읽습니다. (V2 마이그레이션의 커버링 인덱스 사용)
+
+    @Query("select u.nickname from User u where u.id = :id")
+    Optional<String> findNicknameById(@Param("id") Long id);
+
+    @Query("select u.id from User u where u.kakaoId = :kakaoId")
+    Optional<Long> findIdByKakaoId(@Param("kakaoId") Long kakaoId);
+
+    @Query("select new com.example.springboot_starter_auth.global.auth.user.dto.UserProfileDto(u.nickname, u.profileImageUrl, u.email)"
+            + " from User u where u.id = :id")
+    Optional<UserProfileDto> findProfileById(@Param("id") Long id);
+
+    // 대량 가져오기 시 이미 가입된 kakaoId를 배치 단위로 걸러냅니다. (ux_users_kakao_id 인덱스만 사용)
+    @Query("select u.kakaoId from User u where u.kakaoId in :kakaoIds")
+    List<Long> findExistingKakaoIds(@Param("kakaoIds") Collection<Long> kakaoIds);
 }
@@ -0,0 +1,11 @@
+package com.example.springboot_starter_auth.global.auth.user.repository;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * kakaoId로 사용자를 가입시키거나, 이미 있으면 카카오 프로필을 갱신합니다. (DB 왕복 1회)
+     * 같은 kakaoId로 동시에 첫 로그인이 들어와도 unique 제약 위반 없이 같은 행을 반환합니다.
+     * 프로필 이미지/이메일이 null이면 기존 값을 유지합니다.
+     */
+    UserUpsertResult upsertKakaoUser(long kakaoId, String nickname, String profileImageUrl, String email);
+}
@@ -0,0 +1,98 @@
+package com.example.springboot_starter_auth.global.auth.user.repository;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+// UserRepository의 커스텀 구현 (Spring Data가 이름 규칙(Impl)으로 찾아 합쳐 줍니다)
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    // 재로그인(대부분의 호출)은 UPDATE만 실행하고, 갱신된 행이 없을 때만 INSERT합니다. (DB 왕복 1회)
+    // INSERT ... VALUES (nextval(...)) ON CONFLICT 형태는 재로그인마다 nextval을 호출해 시퀀스 블록(50개)을 통째로 버리므로 쓰지 않습니다.
+    // user_id는 Hibernate와 같은 users_seq에서 받습니다. nextval 값 v는 Hibernate pooled 블록 (v-49, v]의 끝이므로
+    // 엔티티 insert와 겹치지 않습니다. (신규 가입 한 번에 블록 하나 사용)
+    // 같은 kakaoId의 첫 로그인이 동시에 들어오면 뒤늦은 쪽은 ON CONFLICT로 갱신에 합류합니다. (이때만 블록 하나가 추가로 버려짐)
+    // LOCALTIMESTAMP는 문장(트랜잭션) 안에서 고정값이므로, 새로 들어간 행만 created_at = updated_at 입니다.
+    private static final String POSTGRES_UPSERT = """
+            WITH updated AS (
+                UPDATE users SET
+                    nickname = CAST(:nickname AS VARCHAR),
+                    profile_image_url = COALESCE(CAST(:profileImageUrl AS VARCHAR), profile_image_url),
+                    email = COALESCE(CAST(:email AS VARCHAR), email),
+                    updated_at = LOCALTIMESTAMP
+                WHERE kakao_id = :kakaoId
+                RETURNING user_id, role, FALSE AS created
+            ), inserted AS (
+                INSERT INTO users (user_id, kakao_id, nickname, profile_image_url, email, role, created_at, updated_at)
+                SELECT nextval('users_seq'), :kakaoId, CAST(:nickname AS VARCHAR), CAST(:profileImageUrl AS VARCHAR),
+                       CAST(:email AS VARCHAR), :role, LOCALTIMESTAMP, LOCALTIMESTAMP
+                WHERE NOT EXISTS (SELECT 1 FROM updated)
+                ON CONFLICT (kakao_id) DO UPDATE SET
+                    nickname = EXCLUDED.nickname,
+                    profile_image_url = COALESCE(EXCLUDED.profile_image_url, users.profile_image_url),
+                    email = COALESCE(EXCLUDED.email, users.email),
+                    updated_at = LOCALTIMESTAMP
+                RETURNING user_id, role, created_at = updated_at AS created
+            )
+            SELECT user_id, role, created FROM updated
+            UNION ALL
+            SELECT user_id, role, created FROM inserted
+            """;
+
+    // H2(test)에는 ON CONFLICT가 없으므로 MERGE 결과를 FINAL TABLE로 바로 읽습니다.
+    private static final String H2_UPSERT = """
+            SELECT user_id, role, created_at = updated_at FROM FINAL TABLE (
+                MERGE INTO users u
+                USING (VALUES (CAST(:kakaoId AS BIGINT), CAST(:nickname AS VARCHAR), CAST(:profileImageUrl AS VARCHAR), CAST(:email AS VARCHAR)))
+                    AS s (kakao_id, nickname, profile_image_url, email)
+                ON u.kakao_id = s.kakao_id
+                WHEN MATCHED THEN UPDATE SET
+                    nickname = s.nickname,
+                    profile_image_url = COALESCE(s.profile_image_url, u.profile_image_url),
+                    email = COALESCE(s.email, u.email),
+                    updated_at = LOCALTIMESTAMP
+                WHEN NOT MATCHED THEN INSERT (user_id, kakao_id, nickname, profile_image_url, email, role, created_at, updated_at)
+                    VALUES (NEXT VALUE FOR users_seq, s.kakao_id, s.nickname, s.profile_image_url, s.email, :role, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            )
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final String upsertSql;
+
+    public UserRepositoryImpl(DataSource dataSource) {
+        this.upsertSql = isH2(dataSource) ? H2_UPSERT : POSTGRES_UPSERT;
+    }
+
+    @Override
+    public UserUpsertResult upsertKakaoUser(long kakaoId, String nickname, String profileImageUrl, String email) {
+        Object[] row = (Object[]) entityManager.createNativeQuery(upsertSql)
+                .setParameter("kakaoId", kakaoId)
+                .setParameter("nickname", nickname)
+                .setParameter("profileImageUrl", profileImageUrl)
+                .setParameter("email", email)
+                .setParameter("role", Role.USER.name())
+                .getSingleResult();
+
+        return new UserUpsertResult(
+                ((Number) row[0]).longValue(),
+                Role.valueOf((String) row[1]),
+                Boolean.TRUE.equals(row[2]));
+    }
+
+    // 기동 시 한 번만 DB 종류를 확인합니다.
+    private static boolean isH2(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "H2".equalsIgnoreCase(productName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Failed to detect database product for user upsert", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.springboot_starter_auth.global.auth.user.repository;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+
+/**
+ * 카카오 로그인 upsert 결과 (토큰 발급에 필요한 값만 반환)
+ * @param userId 우리 서비스의 User ID
+ * @param role 사용자 권한
+ * @param created 이번 호출로 새로 가입된 사용자인지 여부
+ */
+public record UserUpsertResult(long userId, Role role, boolean created) {
+}
@@ -0,0 +1,40 @@
+package com.example.springboot_starter_auth.global.auth.user.service;
+
+import com.example.springboot_starter_auth.global.auth.user.repository.UserUpsertResult;
+import com.example.springboot_starter_auth.global.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 로그인 시 회원 가입/갱신 진입점 (카카오 콜백, OAuth2 로그인 공통)
+ *
+ * 로그인 버튼 연타나 인앱 브라우저의 리다이렉트 재시도로 같은 카카오 계정이 동시에 여러 번 들어오면,
+ * 첫 요청만 upsert를 실행하고 나머지는 그 결과를 공유합니다. (중복 DB 왕복과 unique 제약 충돌 방지)
+ * 대기하는 요청은 트랜잭션 밖에서 기다리므로 DB 커넥션을 붙잡지 않습니다.
+ */
+@Component
+public class KakaoUserRegistrar {
+
+    private final UserService userService;
+    private final SingleFlight<Long, UserUpsertResult> inFlight = new SingleFlight<>();
+
+    public KakaoUserRegistrar(UserService userService, MeterRegistry meterRegistry) {
+        this.userService = userService;
+        FunctionCounter.builder("user.login.coalesced", inFlight, SingleFlight::sharedCount)
+                .description("Logins that reused a concurrent upsert for the same Kakao account")
+                .register(meterRegistry);
+        Gauge.builder("user.login.in-flight", inFlight, SingleFlight::inFlightCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자를 가입/갱신합니다. 같은 kakaoId로 진행 중인 요청이 있으면 그 결과를 그대로 반환합니다.
+     * @return 토큰 발급에 필요한 사용자 ID와 권한
+     */
+    public UserUpsertResult register(long kakaoId, String nickname, String profileImageUrl, String email) {
+        return inFlight.execute(kakaoId,
+                () -> userService.upsertKakaoUser(kakaoId, nickname, profileImageUrl, email));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.springboot_starter_auth.global.auth.user.service;
+
+import com.example.springboot_starter_auth.global.auth.dto.KakaoUserInfoResponseDto;
+import com.example.springboot_starter_auth.global.auth.user.dto.UserImportResult;
+import com.example.springboot_starter_auth.global.auth.user.entity.User;
+import com.example.springboot_starter_auth.global.auth.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기존 회원(카카오 프로필) 대량 가져오기
+ *
+ * 입력은 카카오 사용자 정보 응답(/v2/user/me) 형식의 JSON을 한 줄에 하나씩(JSON Lines) 또는 JSON 배열로 담은 파일입니다.
+ * 파일을 스트리밍으로 읽어 batch-size 단위로 한 트랜잭션씩 저장하고, 배치마다 flush/clear 하므로
+ * 메모리 사용량은 파일 크기와 무관하게 배치 하나 분량으로 제한됩니다.
+ * 이미 가입된 kakaoId는 건너뛰므로 중간에 실패해도 같은 파일로 다시 실행하면 이어서 가져옵니다.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long progressLogInterval;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public UserImportService(UserRepository userRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${user.import.batch-size:1000}") int batchSize,
+                             @Value("${user.import.progress-log-interval:100000}") long progressLogInterval) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("user.import.batch-size must be positive");
+        }
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.progressLogInterval = progressLogInterval;
+    }
+
+    public UserImportResult importUsers(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return importUsers(in);
+        }
+    }
+
+    public UserImportResult importUsers(InputStream in) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long read = 0;
+        long imported = 0;
+        long nextProgressLog = progressLogInterval;
+        // 같은 배치 안의 중복 kakaoId는 마지막 값으로 합칩니다. (배치 간 중복은 DB 조회로 걸러짐)
+        Map<Long, KakaoUserInfoResponseDto> batch = new LinkedHashMap<>(batchSize * 2);
+
+        try (MappingIterator<KakaoUserInfoResponseDto> profiles =
+                     objectMapper.readerFor(KakaoUserInfoResponseDto.class).readValues(in)) {
+            while (profiles.hasNextValue()) {
+                KakaoUserInfoResponseDto profile = profiles.nextValue();
+                read++;
+                if (profile.getId() != null) {
+                    batch.put(profile.getId(), profile);
+                }
+                if (batch.size() >= batchSize) {
+                    imported += saveBatch(batch);
+                    batch.clear();
+                }
+                if (read >= nextProgressLog) {
+                    logProgress(read, imported, startedAt);
+                    nextProgressLog += progressLogInterval;
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += saveBatch(batch);
+        }
+
+        UserImportResult result = new UserImportResult(read, imported, read - imported, System.currentTimeMillis() - startedAt);
+        log.info("User import finished - read: {}, imported: {}, skipped: {}, elapsed: {}ms ({} users/s)",
+                result.read(), result.imported(), result.skipped(), result.elapsedMillis(),
+                String.format("%.0f", result.throughputPerSecond()));
+        return result;
+    }
+
+    // 배치 하나를 한 트랜잭션으로 저장합니다. (insert는 hibernate.jdbc.batch_size 단위로 묶여 전송)
+    private int saveBatch(Map<Long, KakaoUserInfoResponseDto> batch) {
+        Integer saved = transactionTemplate.execute(status -> {
+            Set<Long> existing = new HashSet<>(userRepository.findExistingKakaoIds(batch.keySet()));
+            List<User> users = new ArrayList<>(batch.size());
+            for (KakaoUserInfoResponseDto profile : batch.values()) {
+                if (!existing.contains(profile.getId())) {
+                    users.add(toUser(profile));
+                }
+            }
+            for (User user : users) {
+                entityManager.persist(user);
+            }
+            // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 배치마다 비웁니다.
+            entityManager.flush();
+            entityManager.clear();
+            return users.size();
+        });
+        return saved != null ? saved : 0;
+    }
+
+    private static User toUser(KakaoUserInfoResponseDto userInfo) {
+        KakaoUserInfoResponseDto.KakaoAccount kakaoAccount = userInfo.getKakaoAccount();
+        KakaoUserInfoResponseDto.Profile profile = kakaoAccount != null ? kakaoAccount.getProfile() : null;
+
+        return User.builder()
+                .kakaoId(userInfo.getId())
+                .nickname(profile != null && profile.getNickname() != null ? profile.getNickname() : "Unknown")
+                .profileImageUrl(profile != null ? profile.getProfileImageUrl() : null)
+                .email(kakaoAccount != null ? kakaoAccount.getEmail() : null)
+                .build();
+    }
+
+    private static void logProgress(long read, long imported, long startedAt) {
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("User import progress - read: {}, imported: {}, elapsed: {}ms ({} users/s)",
+                read, imported, elapsed, imported * 1000 / elapsed);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.springboot_starter_auth.global.auth.user.service;
+
+import com.example.springboot_starter_auth.global.auth.user.dto.UserProfileDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongFunction;
+
+/**
+ * 사용자 ID -> 프로필 스냅샷 read-through 캐시
+ * 마이페이지 조회는 가장 많이 호출되는 DB 읽기지만 데이터는 거의 바뀌지 않으므로, TTL과 최대 크기로 제한해 보관합니다.
+ * 탈퇴/프로필 변경 시에는 반드시 invalidate를 호출해야 합니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final Cache<Long, UserProfileDto> cache;
+
+    public UserProfileCache(@Value("${user.profile-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user.profile-cache.ttl-seconds:600}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등 (cache=user.profile)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profile");
+    }
+
+    /**
+     * 캐시에 없으면 loader로 조회해 채웁니다. loader가 null을 반환하면 캐시하지 않습니다.
+     */
+    public UserProfileDto get(long userId, LongFunction<UserProfileDto> loader) {
+        return cache.get(userId, id -> loader.apply(id));
+    }
+
+    public void invalidate(long userId) {
+        cache.invalidate(userId);
+    }
+
+    // hit/miss/eviction 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -1,33 +1,99 @@
 package com.example.springboot_starter_auth.global.auth.user.service;
 
 
+import com.example.springboot_starter_auth.global.auth.service.RefreshTokenService;
+import com.example.springboot_starter_auth.global.auth.user.dto.UserProfileDto;
 import com.example.springboot_starter_auth.global.auth.user.entity.User;
 import com.example.springboot_starter_auth.global.auth.user.repository.UserRepository;
+import com.example.springboot_starter_auth.global.auth.user.repository.UserUpsertResult;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
 
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class UserService {
 
+    // 사용자 테이블 조회/변경 시간 (query 태그로 구분)
+    private static final String QUERY_METRIC = "user.queries";
+
     private final UserRepository userRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final UserProfileCache userProfileCache;
+    private final MeterRegistry meterRegistry;
 
     // Get user nickname by ID (for JavaScript display)
-    public String getUserNickname(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        return user.getNickname();
+    // 캐시 hit 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (miss 시 Repository 트랜잭션으로 조회)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getUserNickname(long userId) {
+        return getUserProfile(userId).nickname();
+    }
+
+    // Get user profile snapshot by ID (read-through cache)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserProfileDto getUserProfile(long userId) {
+        UserProfileDto profile = userProfileCache.get(userId, id -> queryTimed("find_profile",
+                () -> userRepository.findProfileById(id).orElse(null)));
+        if (profile == null) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        return profile;
+    }
+
+    /**
+     * 카카오 로그인 사용자를 가입/갱신합니다. (조회 후 저장 대신 upsert 한 번으로 처리)
+     * @return 토큰 발급에 필요한 사용자 ID와 권한
+     */
+    @Transactional
+    public UserUpsertResult upsertKakaoUser(long kakaoId, String nickname, String profileImageUrl, String email) {
+        UserUpsertResult result = queryTimed("upsert_kakao_user",
+                () -> userRepository.upsertKakaoUser(kakaoId, nickname, profileImageUrl, email));
+        if (result.created()) {
+            log.info("New user created - user: {} (Kakao ID: {})", result.userId(), kakaoId);
+        } else {
+            // 기존 사용자는 카카오 프로필로 갱신되었으므로 캐시된 프로필을 버립니다.
+            invalidateProfileAfterCommit(result.userId());
+        }
+        return result;
     }
 
     @Transactional
     public void withdrawUser(Long userId) {
-        User user = userRepository.findById(userId)
+        User user = queryTimed("find_by_id", () -> userRepository.findById(userId))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 사용자 삭제
         userRepository.delete(user);
+        // 탈퇴한 사용자의 리프레시 토큰으로 재발급되지 않도록 폐기
+        refreshTokenService.revokeAllForUser(userId);
+        // 커밋 전에 다른 요청이 이전 데이터를 다시 캐시하지 않도록 커밋 이후에 캐시 제거
+        invalidateProfileAfterCommit(userId);
+    }
+
+    // 프로필이 바뀌는 모든 경로(탈퇴, 로그인 시 프로필 갱신 등)에서 호출
+    public void invalidateProfileAfterCommit(long userId) {
+        userProfileCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userProfileCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private <T> T queryTimed(String query, Supplier<T> supplier) {
+        return meterRegistry.timer(QUERY_METRIC, "query", query).record(supplier);
     }
-}
\ No newline at end of file
+}
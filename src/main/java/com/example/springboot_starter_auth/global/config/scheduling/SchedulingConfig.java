@@ -0,0 +1,9 @@
+package com.example.springboot_starter_auth.global.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // 💡@Scheduled 작업 활성화 (리프레시 토큰 정리, 배치 저장 등)
+public class SchedulingConfig {
+}
@@ -0,0 +1,84 @@
+package com.example.springboot_starter_auth.global.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인증 정보가 필요 없는 공개 경로 (랜딩 페이지 정적 리소스, 로그인 진입/콜백, JWK Set)
+ *
+ * SecurityConfig의 permitAll과 JwtAuthenticationFilter의 건너뛰기 조건이 같은 목록을 쓰도록 한 곳에 정의합니다.
+ * 패턴은 시작 시 정확 일치 / 접두사("/x/**") / 루트 확장자("/*.css") 세 가지로 나눠 두므로,
+ * 요청마다 AntPath/PathPattern 파싱 없이 문자열 비교만 합니다.
+ *
+ * 주의: 공개 경로라도 로그인 여부를 확인하는 API(/api/check-auth 등)는 여기에 넣지 않습니다.
+ * 이 목록의 요청에는 SecurityContext에 인증 정보가 채워지지 않습니다.
+ */
+public final class PublicRoutes implements RequestMatcher {
+
+    public static final List<String> PATTERNS = List.of(
+            // 익명 사용자용 리소스 (메인 랜딩 페이지용만)
+            "/", "/main.html", "/app.js", "/*.css", "/css/**", "/img/**", "/music/**", "/favicon.ico", "/error",
+            // 카카오 로그인 진입/콜백 (OAuth2 로그인 경로 포함)
+            "/auth/kakao/callback", "/auth/kakao/login-url", "/oauth2/**", "/login/oauth2/**",
+            // 토큰 검증용 공개 키 (JWK Set) - web.ignoring() 대신 여기 두어 보안 헤더는 그대로 붙음
+            "/.well-known/**"
+    );
+
+    public static final PublicRoutes MATCHER = new PublicRoutes(PATTERNS);
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final String[] prefixes;
+    private final String[] rootExtensions;
+
+    private PublicRoutes(List<String> patterns) {
+        List<String> prefixList = new ArrayList<>();
+        List<String> extensionList = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (pattern.endsWith("/**")) {
+                String base = pattern.substring(0, pattern.length() - 3);
+                exactPaths.add(base);            // "/img"도 "/img/**"에 포함
+                prefixList.add(base + "/");
+            } else if (pattern.startsWith("/*.")) {
+                extensionList.add(pattern.substring(2));  // ".css"
+            } else if (pattern.indexOf('*') < 0) {
+                exactPaths.add(pattern);
+            } else {
+                throw new IllegalArgumentException("Unsupported public route pattern: " + pattern);
+            }
+        }
+        this.prefixes = prefixList.toArray(String[]::new);
+        this.rootExtensions = extensionList.toArray(String[]::new);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return matches(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+    }
+
+    // 컨텍스트 경로를 제외한 요청 경로 기준 (StrictHttpFirewall이 ';', '//', '..' 등은 이미 거부)
+    public boolean matches(String path) {
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        if (path.lastIndexOf('/') == 0) {
+            for (String extension : rootExtensions) {
+                if (path.endsWith(extension)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,20 +1,26 @@
 package com.example.springboot_starter_auth.global.config.security;
 
+import com.example.springboot_starter_auth.global.auth.controller.AuthController;
 import com.example.springboot_starter_auth.global.auth.handler.OAuth2FailureHandler;
 import com.example.springboot_starter_auth.global.auth.handler.OAuth2SuccessHandler;
+import com.example.springboot_starter_auth.global.auth.jwt.GrantedAuthorityCache;
 import com.example.springboot_starter_auth.global.auth.jwt.JwtAuthenticationFilter;
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import com.example.springboot_starter_auth.global.ratelimit.LoginConcurrencyFilter;
+import com.example.springboot_starter_auth.global.ratelimit.RateLimitFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.web.OAuth2LoginAuthenticationFilter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,8 +29,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
@@ -32,6 +38,8 @@ import java.util.stream.Collectors;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final LoginConcurrencyFilter loginConcurrencyFilter;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
 
@@ -72,14 +80,14 @@ public class SecurityConfig {
                             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                             .requestMatchers(HttpMethod.OPTIONS, "/main.html").permitAll()
 
-                            // 카카오 로그인 처리 API 경로는 인증 없이 모두 허용
-                            .requestMatchers("/auth/kakao/callback").permitAll()
-                            .requestMatchers("/auth/kakao/login-url").permitAll()
+                            // 랜딩 페이지 정적 리소스와 카카오/OAuth2 로그인 경로 (JwtAuthenticationFilter도 같은 목록으로 토큰 처리를 건너뜀)
+                            .requestMatchers(PublicRoutes.MATCHER).permitAll()
+                            // 로그인 여부 확인 API - 공개지만 인증 정보를 읽으므로 필터는 거침
                             .requestMatchers("/api/check-auth").permitAll()
-                            
-                            // OAuth2 로그인 경로 허용
-                            .requestMatchers("/oauth2/**").permitAll()
-                            .requestMatchers("/login/oauth2/**").permitAll();
+                            // 리프레시 토큰 재발급 (액세스 토큰이 만료된 상태에서 호출)
+                            .requestMatchers(HttpMethod.POST, "/auth/refresh").permitAll()
+                            // 로그아웃 - 토큰을 직접 확인하므로 이미 폐기/만료된 토큰으로도 쿠키 삭제와 family 폐기가 되도록 공개
+                            .requestMatchers(HttpMethod.POST, AuthController.LOGOUT_PATH).permitAll();
 
                     // 테스트용 인증 API 허용
                     // local 환경에서만 공개
@@ -88,16 +96,14 @@ public class SecurityConfig {
                     }
 
                     authorize
-
-
-                            // 익명 사용자용 리소스 (메인 랜딩 페이지용만)
-                            .requestMatchers("/", "/main.html", "/app.js", "/*.css", "/img/**", "/music/**", "/css/**", "/error", "/favicon.ico").permitAll()
-                            
                             // 인증된 사용자용 리소스 (로그인 후 접근 가능)
                             .requestMatchers("/home.html", "/app_*.js", "/views/**").authenticated()
 
-                            // /home과 .well-known 경로 허용 추가 (에러 방지)
-                            .requestMatchers("/.well-known/**").permitAll()
+                            // 역할 기반 권한 (역할은 토큰 클레임에서 읽으므로 요청마다 DB 조회 없음)
+                            .requestMatchers("/api/users/**").hasRole(Role.USER.name())
+
+                            // 헬스 체크와 Prometheus 스크랩 (management 포트로만 노출되므로 네트워크 단에서 접근 제한)
+                            .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
 
                             // 위에서 지정한 경로 외의 모든 요청은 반드시 인증(로그인) 필요
                             .anyRequest().authenticated();
@@ -112,11 +118,33 @@ public class SecurityConfig {
                 )
 
                 //* 6. (중요) 우리가 직접 만든 JwtAuthenticationFilter를 UsernamePasswordAuthenticationFilter 앞에 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 7. 인증 관련 공개 API 요청 제한 (JWT 필터가 기록한 사용자 ID로 구분하기 위해 그 다음에 실행)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+
+                // 8. 로그인 경로 동시 실행 제한 (OAuth2 로그인 코드 교환보다 먼저, 한도 초과 시 즉시 503)
+                .addFilterBefore(loginConcurrencyFilter, OAuth2LoginAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // RateLimitFilter는 보안 필터 체인 안에서만 실행되도록 서블릿 필터 자동 등록을 끕니다.
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    // LoginConcurrencyFilter도 보안 필터 체인 안에서만 실행
+    @Bean
+    public FilterRegistrationBean<LoginConcurrencyFilter> loginConcurrencyFilterRegistration(LoginConcurrencyFilter filter) {
+        FilterRegistrationBean<LoginConcurrencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     // CORS 세부 설정 (허용 origin, method 등) - 환경별 분리
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -158,34 +186,27 @@ public class SecurityConfig {
         return source;
     }
 
-    // .well-known 완전 무시 (옵션, Security 우회)
-    @Bean
-    public WebSecurityCustomizer webSecurityCustomizer() {
-        return (web) -> web.ignoring().requestMatchers("/.well-known/**");
-    }
-
     @Bean
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
 
+        // 같은 스코프 조합은 하나의 불변 권한 집합을 재사용
+        GrantedAuthorityCache scopeAuthorities = new GrantedAuthorityCache("SCOPE_");  // prefix 커스텀 (필요 시 "ROLE_")
+
         converter.setJwtGrantedAuthoritiesConverter(jwt -> {
             // getClaim 메서드 사용 – Object로 가져와 안전 캐스팅
             Object scopeClaim = jwt.getClaim("scope");  // "scope" 클레임 가져오기 (Kakao 토큰 맞춤)
-            List<String> scopes = new ArrayList<>();
 
             if (scopeClaim instanceof List<?> list) {
-                scopes = list.stream()
+                List<String> scopes = list.stream()
                         .filter(item -> item instanceof String)
                         .map(item -> (String) item)
-                        .collect(Collectors.toList());
+                        .toList();
+                return scopeAuthorities.get(scopes);
             } else if (scopeClaim instanceof String str) {
-                scopes = List.of(str.split(" "));  // 문자열 split (e.g., "scope1 scope2")
-            }  // else: 빈 리스트 (클레임 없음 – 에러 방지)
-
-            // scopes를 GrantedAuthority로 변환
-            return scopes.stream()
-                    .map(scope -> new SimpleGrantedAuthority("SCOPE_" + scope))  // prefix 커스텀 (필요 시 "ROLE_")
-                    .collect(Collectors.toList());
+                return scopeAuthorities.get(str);  // 문자열 그대로 (e.g., "scope1 scope2")
+            }
+            return Collections.emptySet();  // 빈 집합 (클레임 없음 – 에러 방지)
         });
 
         return converter;
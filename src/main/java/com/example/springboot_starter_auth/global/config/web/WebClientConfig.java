@@ -1,14 +1,100 @@
 package com.example.springboot_starter_auth.global.config.web;
 
+import com.example.springboot_starter_auth.global.logging.RequestCorrelationFilter;
+import io.netty.channel.ChannelOption;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.function.Function;
 
 @Configuration
 public class WebClientConfig {
 
+    // 카카오(kauth/kapi) 호출용 커넥션 풀 설정
+    @Value("${kakao.http-client.max-connections:100}")
+    private int maxConnections;
+    @Value("${kakao.http-client.pending-acquire-timeout-ms:1000}")
+    private long pendingAcquireTimeoutMs;  // 풀이 가득 찼을 때 커넥션 대기 한도
+    @Value("${kakao.http-client.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;            // 서버(LB)가 먼저 끊기 전에 유휴 커넥션 정리
+    @Value("${kakao.http-client.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+    @Value("${kakao.http-client.evict-interval-ms:30000}")
+    private long evictIntervalMs;
+
+    // 타임아웃 설정
+    @Value("${kakao.http-client.connect-timeout-ms:1000}")
+    private int connectTimeoutMs;
+    @Value("${kakao.http-client.tls-handshake-timeout-ms:2000}")
+    private long tlsHandshakeTimeoutMs;
+    @Value("${kakao.http-client.response-timeout-ms:6000}")
+    private long responseTimeoutMs;        // 요청 전송 후 응답 수신까지 (적응형 타임아웃 max보다 긴 최후 방어선)
+
+    @Value("${kakao.http-client.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    /**
+     * 카카오 API 전용 WebClient
+     * 로그인 폭주 시 매번 새 TLS 연결을 맺지 않도록 이름 있는 커넥션 풀을 재사용하고,
+     * 연결/TLS 핸드셰이크/응답 단계별로 타임아웃을 둡니다.
+     */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient kakaoWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .metrics(true)  // 호스트별 풀 지표 (reactor.netty.connection.provider.*)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                // TLS 설정은 https 요청에만 적용됩니다.
+                .secure(spec -> spec
+                        .sslContext(http2Enabled ? Http2SslContextSpec.forClient() : Http11SslContextSpec.forClient())
+                        .handshakeTimeout(Duration.ofMillis(tlsHandshakeTimeoutMs)))
+                // 호출 대상 URI가 고정(token, user/me)이라 URI를 그대로 태그로 사용해도 카디널리티가 작습니다.
+                .metrics(true, Function.identity());
+
+        if (http2Enabled) {
+            // ALPN으로 협상하며, HTTP/2를 지원하지 않으면 HTTP/1.1로 동작
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(requestIdPropagation())
+                .build();
+    }
+
+    // 현재 요청의 추적 ID를 카카오 호출 헤더로 전달합니다.
+    // 호출은 요청 스레드에서 .block()으로 구독되므로, 구독 시점에 MDC 값을 읽을 수 있습니다.
+    private static ExchangeFilterFunction requestIdPropagation() {
+        return (request, next) -> {
+            String requestId = MDC.get(RequestCorrelationFilter.MDC_REQUEST_ID);
+            if (requestId == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .header(RequestCorrelationFilter.REQUEST_ID_HEADER, requestId)
+                    .build());
+        };
     }
 }
@@ -0,0 +1,16 @@
+package com.example.springboot_starter_auth.global.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 외부 인증 서비스(카카오)를 일시적으로 사용할 수 없음 (타임아웃, 회로 차단, bulkhead 거절, 5xx, 연결 실패)
+ *
+ * 클라이언트 잘못(만료/잘못된 인가 코드 등)인 AuthenticationServiceException과 구분해 503으로 응답하며,
+ * LoginConcurrencyFilter는 이를 서버 측 실패로 보고 동시 실행 한도를 줄입니다.
+ */
+public class ExternalServiceUnavailableException extends AuthenticationServiceException {
+
+    public ExternalServiceUnavailableException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
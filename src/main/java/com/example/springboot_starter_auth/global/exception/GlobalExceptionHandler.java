@@ -56,6 +56,13 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.BAD_REQUEST, "외부 API 호출에 실패했습니다.", "서비스 연결에 문제가 발생했습니다.");
     }
 
+    // 외부 인증 서비스 장애 (타임아웃, 회로 차단, 5xx) - 클라이언트 잘못이 아니므로 503
+    @ExceptionHandler(ExternalServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleExternalServiceUnavailable(ExternalServiceUnavailableException e) {
+        log.warn("External service unavailable: {}", e.getMessage());
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스를 일시적으로 사용할 수 없습니다.", "잠시 후 다시 시도해 주세요.");
+    }
+
     // IllegalArgumentException 처리
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
@@ -1,20 +1,13 @@
 package com.example.springboot_starter_auth.global.logging;
 
 import com.p6spy.engine.logging.Category;
-import com.p6spy.engine.spy.P6SpyOptions;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
-import jakarta.annotation.PostConstruct;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
-import org.springframework.context.annotation.Configuration;
 
 import java.util.Locale;
 
-@Configuration
+// SQL 포맷터 (sql-logging.mode=sync 에서는 P6Spy가 JDBC 스레드에서, async 에서는 SqlStatementRecorder가 백그라운드에서 사용)
 public class P6SpySqlFormatter implements MessageFormattingStrategy {
-    @PostConstruct
-    public void setLogMessageFormat() {
-        P6SpyOptions.getActiveInstance().setLogMessageFormat(this.getClass().getName());
-    }
 
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
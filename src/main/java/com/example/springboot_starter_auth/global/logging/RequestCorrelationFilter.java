@@ -0,0 +1,49 @@
+package com.example.springboot_starter_auth.global.logging;
+
+import com.example.springboot_starter_auth.global.util.UuidUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 추적 ID 필터
+ * 보안 필터 체인(JwtAuthenticationFilter 포함)보다 먼저 실행되어, 요청 하나에서 나온 로그/카카오 호출/SQL을
+ * 같은 requestId로 묶습니다. userId는 JwtAuthenticationFilter가 인증에 성공했을 때 MDC에 추가합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_USER_ID = "userId";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        // 게이트웨이가 보낸 ID가 있으면 이어서 쓰고, 없거나 형식이 이상하면 새로 만듭니다.
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (!UuidUtil.isValidRequestId(requestId)) {
+            requestId = UuidUtil.generateRequestId();
+        }
+
+        MDC.put(MDC_REQUEST_ID, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 스레드(가상 스레드 포함)가 재사용될 때 이전 요청 값이 남지 않도록 정리
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_USER_ID);
+        }
+    }
+}
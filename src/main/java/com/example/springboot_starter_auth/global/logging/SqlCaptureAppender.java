@@ -0,0 +1,43 @@
+package com.example.springboot_starter_auth.global.logging;
+
+import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.spy.appender.P6Logger;
+import org.slf4j.MDC;
+
+/**
+ * P6Spy appender (비동기 모드)
+ * P6Spy가 클래스 이름으로 직접 생성하므로 Spring 빈이 아니며, SqlLoggingConfig가 기록기를 install 합니다.
+ * JDBC 스레드에서는 포맷팅 없이 SqlStatementRecorder에 넘기기만 합니다.
+ */
+public class SqlCaptureAppender implements P6Logger {
+
+    private static volatile SqlStatementRecorder recorder;
+
+    static void install(SqlStatementRecorder sqlStatementRecorder) {
+        recorder = sqlStatementRecorder;
+    }
+
+    @Override
+    public void logSQL(int connectionId, String now, long elapsed, Category category, String prepared, String sql, String url) {
+        SqlStatementRecorder current = recorder;
+        if (current != null) {
+            // 느린 문장 로그를 요청과 연결할 수 있도록 요청 ID만 함께 넘깁니다.
+            current.record(category.getName(), elapsed, prepared, sql, MDC.get(RequestCorrelationFilter.MDC_REQUEST_ID));
+        }
+    }
+
+    @Override
+    public void logException(Exception e) {
+        // 문장 실패는 애플리케이션 예외 로그로 확인합니다.
+    }
+
+    @Override
+    public void logText(String text) {
+        // 사용하지 않음
+    }
+
+    @Override
+    public boolean isCategoryEnabled(Category category) {
+        return Category.STATEMENT.equals(category) || Category.BATCH.equals(category);
+    }
+}
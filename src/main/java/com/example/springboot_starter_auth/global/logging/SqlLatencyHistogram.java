@@ -0,0 +1,76 @@
+package com.example.springboot_starter_auth.global.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SQL 지문(fingerprint)별 실행 시간 히스토그램
+ * 버킷은 2의 거듭제곱 ms 경계(0, 1, 2, 4 ... 2^20 이상)라 메모리가 고정이고, 백분위는 버킷 상한으로 근사합니다.
+ * 기록은 SqlStatementRecorder의 백그라운드 스레드 하나만 하고, 조회는 어느 스레드에서나 할 수 있습니다.
+ */
+public class SqlLatencyHistogram {
+
+    private static final int BUCKETS = 22;
+
+    private final String fingerprint;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMillis = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    public SqlLatencyHistogram(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public void record(long elapsedMillis) {
+        long elapsed = Math.max(0, elapsedMillis);
+        buckets.incrementAndGet(bucketOf(elapsed));
+        count.incrementAndGet();
+        totalMillis.addAndGet(elapsed);
+        if (elapsed > maxMillis.get()) {
+            maxMillis.set(elapsed);  // 단일 기록 스레드이므로 CAS 불필요
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new Snapshot(fingerprint, total, totalMillis.get(), maxMillis.get(),
+                percentile(counts, total, 0.5), percentile(counts, total, 0.99));
+    }
+
+    // 0ms -> 0, 1ms -> 1, 2~3ms -> 2, 4~7ms -> 3 ...
+    private static int bucketOf(long elapsedMillis) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(elapsedMillis));
+    }
+
+    // 버킷 상한(ms)
+    private static long upperBoundOf(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(counts.length - 1);
+    }
+
+    /**
+     * 조회 시점의 히스토그램 요약 (p50/p99는 버킷 상한 근사치)
+     */
+    public record Snapshot(String fingerprint, long count, long totalMillis, long maxMillis, long p50Millis, long p99Millis) {
+    }
+}
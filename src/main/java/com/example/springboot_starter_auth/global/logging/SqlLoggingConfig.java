@@ -0,0 +1,48 @@
+package com.example.springboot_starter_auth.global.logging;
+
+import com.p6spy.engine.spy.P6SpyOptions;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * P6Spy SQL 로깅 설정 (p6spy는 developmentOnly 의존성이라 클래스가 있을 때만 적용)
+ *
+ * sql-logging.mode=async (기본): 모든 문장을 링 버퍼에 기록하고, 느린 문장/샘플만 백그라운드에서 포맷팅합니다.
+ * sql-logging.mode=sync: 기존처럼 모든 문장을 JDBC 스레드에서 포맷팅해 출력합니다. (로컬 디버깅용)
+ */
+@Configuration
+@ConditionalOnClass(name = "com.p6spy.engine.spy.P6SpyOptions")
+public class SqlLoggingConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "sql-logging.mode", havingValue = "async", matchIfMissing = true)
+    static class AsyncSqlLoggingConfig {
+
+        @Bean(destroyMethod = "close")
+        public SqlStatementRecorder sqlStatementRecorder(
+                @Value("${sql-logging.ring-buffer-size:8192}") int ringBufferSize,
+                @Value("${sql-logging.slow-threshold-ms:100}") long slowThresholdMillis,
+                @Value("${sql-logging.sample-rate:0.01}") double sampleRate,
+                @Value("${sql-logging.max-fingerprints:1000}") int maxFingerprints) {
+            SqlStatementRecorder recorder = new SqlStatementRecorder(ringBufferSize, slowThresholdMillis, sampleRate, maxFingerprints);
+            recorder.start();
+            SqlCaptureAppender.install(recorder);
+            P6SpyOptions.getActiveInstance().setAppender(SqlCaptureAppender.class.getName());
+            return recorder;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "sql-logging.mode", havingValue = "sync")
+    static class SyncSqlLoggingConfig {
+
+        @PostConstruct
+        public void setLogMessageFormat() {
+            P6SpyOptions.getActiveInstance().setLogMessageFormat(P6SpySqlFormatter.class.getName());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.springboot_starter_auth.global.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JDBC 문장 실행 기록기 (P6Spy 비동기 모드)
+ *
+ * JDBC 스레드는 record()에서 이벤트 하나를 링 버퍼 슬롯에 넣기만 합니다. (락 없음, 포맷팅 없음)
+ * 백그라운드 스레드가 이벤트를 꺼내 SQL 지문별 히스토그램에 누적하고,
+ * 임계값 이상으로 느린 문장과 sample-rate 비율로 뽑힌 문장만 포맷팅해 로그로 남깁니다.
+ * 소비가 생산을 따라가지 못하면 오래된 이벤트부터 덮어쓰며, 버려진 수는 droppedCount()로 확인합니다.
+ */
+@Slf4j
+public class SqlStatementRecorder implements AutoCloseable {
+
+    // P6Spy 기본 slf4j 로거와 같은 이름을 써서 기존 로그 설정을 그대로 적용합니다.
+    private static final Logger sqlLog = LoggerFactory.getLogger("p6spy");
+    private static final String OTHER_FINGERPRINT = "(other)";
+    private static final int FINGERPRINT_CACHE_SIZE = 4096;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicReferenceArray<SqlEvent> ring;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+    private final int maxFingerprints;
+    private final P6SpySqlFormatter formatter = new P6SpySqlFormatter();
+    private final Map<String, SqlLatencyHistogram> histograms = new ConcurrentHashMap<>();
+    // 백그라운드 스레드 전용 (prepared SQL -> 지문)
+    private final Map<String, String> fingerprintCache = new HashMap<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public SqlStatementRecorder(int ringBufferSize, long slowThresholdMillis, double sampleRate, int maxFingerprints) {
+        if (ringBufferSize <= 0 || Integer.bitCount(ringBufferSize) != 1) {
+            throw new IllegalArgumentException("Ring buffer size must be a power of two: " + ringBufferSize);
+        }
+        this.ring = new AtomicReferenceArray<>(ringBufferSize);
+        this.mask = ringBufferSize - 1;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.sampleRate = sampleRate;
+        this.maxFingerprints = maxFingerprints;
+        this.worker = Thread.ofPlatform().name("sql-recorder").daemon().unstarted(this::drainLoop);
+    }
+
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * JDBC 스레드에서 호출됩니다. 슬롯 하나를 차지해 이벤트를 넣고 바로 반환합니다.
+     */
+    public void record(String category, long elapsedMillis, String prepared, String sql, String requestId) {
+        long seq = sequence.getAndIncrement();
+        ring.set((int) (seq & mask), new SqlEvent(seq, category, elapsedMillis, prepared, sql, requestId));
+    }
+
+    /**
+     * 총 실행 시간이 큰 순서로 지문별 히스토그램을 반환합니다.
+     */
+    public List<SqlLatencyHistogram.Snapshot> snapshots(int limit) {
+        List<SqlLatencyHistogram.Snapshot> result = new ArrayList<>(histograms.size());
+        for (SqlLatencyHistogram histogram : histograms.values()) {
+            result.add(histogram.snapshot());
+        }
+        result.sort(Comparator.comparingLong(SqlLatencyHistogram.Snapshot::totalMillis).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    public long recordedCount() {
+        return sequence.get();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    private void drainLoop() {
+        long cursor = 0;
+        while (running) {
+            SqlEvent event = ring.get((int) (cursor & mask));
+            if (event == null || event.seq() < cursor) {
+                // 아직 기록되지 않은 슬롯 (또는 슬롯을 잡은 JDBC 스레드가 쓰는 중)
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            if (event.seq() > cursor) {
+                // 소비가 늦어 한 바퀴 이상 덮어쓰인 구간은 버립니다.
+                dropped.addAndGet(event.seq() - cursor);
+            }
+            cursor = event.seq() + 1;
+            try {
+                process(event);
+            } catch (RuntimeException e) {
+                log.warn("Failed to process SQL event", e);
+            }
+        }
+    }
+
+    private void process(SqlEvent event) {
+        if (!"statement".equals(event.category()) && !"batch".equals(event.category())) {
+            return;  // commit/rollback 등은 집계하지 않습니다.
+        }
+        String source = event.prepared() != null && !event.prepared().isBlank() ? event.prepared() : event.sql();
+        if (source == null || source.isBlank()) {
+            return;
+        }
+        histogramFor(fingerprintOf(source)).record(event.elapsedMillis());
+
+        boolean slow = event.elapsedMillis() >= slowThresholdMillis;
+        if (slow || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            String message = formatter.formatMessage(0, null, event.elapsedMillis(), event.category(),
+                    event.prepared(), event.sql(), null);
+            // 백그라운드 스레드에서 찍지만 원래 요청의 ID로 남깁니다.
+            if (event.requestId() != null) {
+                MDC.put(RequestCorrelationFilter.MDC_REQUEST_ID, event.requestId());
+            }
+            try {
+                if (slow) {
+                    sqlLog.warn("[slow] {}", message);
+                } else {
+                    sqlLog.info("[sampled] {}", message);
+                }
+            } finally {
+                MDC.remove(RequestCorrelationFilter.MDC_REQUEST_ID);
+            }
+        }
+    }
+
+    private SqlLatencyHistogram histogramFor(String fingerprint) {
+        SqlLatencyHistogram histogram = histograms.get(fingerprint);
+        if (histogram != null) {
+            return histogram;
+        }
+        // 리터럴이 그대로 들어간 동적 SQL이 지문을 무한히 만들지 않도록 상한을 둡니다.
+        String key = histograms.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+        return histograms.computeIfAbsent(key, SqlLatencyHistogram::new);
+    }
+
+    private String fingerprintOf(String sql) {
+        String fingerprint = fingerprintCache.get(sql);
+        if (fingerprint == null) {
+            if (fingerprintCache.size() >= FINGERPRINT_CACHE_SIZE) {
+                fingerprintCache.clear();
+            }
+            fingerprint = normalize(sql);
+            fingerprintCache.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 리터럴을 ?로 바꾸고 공백/대소문자를 정규화해 같은 모양의 SQL을 하나로 묶습니다.
+     * 예) "select * from users where id = 1" -> "select * from users where id = ?"
+     */
+    static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // 문자열 리터럴 ('' 이스케이프 포함)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (Character.isDigit(c) && (out.isEmpty() || !isIdentifierChar(out.charAt(out.length() - 1)))) {
+                // 숫자 리터럴 (식별자 안의 숫자 u1_0 등은 제외)
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty()) {
+                    out.append(' ');
+                }
+            } else {
+                out.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        // in (?, ?, ?) 목록 길이가 달라도 같은 지문으로 묶습니다.
+        return out.toString().trim().replaceAll("\\(\\?(\\s*,\\s*\\?)+\\)", "(?)");
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private record SqlEvent(long seq, String category, long elapsedMillis, String prepared, String sql, String requestId) {
+    }
+}
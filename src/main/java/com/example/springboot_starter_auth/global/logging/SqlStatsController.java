@@ -0,0 +1,40 @@
+package com.example.springboot_starter_auth.global.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// SQL 지문별 실행 시간 히스토그램 조회 (P6Spy 비동기 모드에서만 등록, 인증 필요)
+@RestController
+@RequestMapping("/dev/sql-stats")
+@ConditionalOnClass(name = "com.p6spy.engine.spy.P6SpyOptions")
+@ConditionalOnProperty(name = "sql-logging.mode", havingValue = "async", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatsController {
+
+    private final SqlStatementRecorder sqlStatementRecorder;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getSqlStats(@RequestParam(defaultValue = "50") int limit) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("recorded", sqlStatementRecorder.recordedCount());
+        response.put("dropped", sqlStatementRecorder.droppedCount());
+        response.put("statements", sqlStatementRecorder.snapshots(Math.max(1, limit)));
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> resetSqlStats() {
+        sqlStatementRecorder.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.springboot_starter_auth.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간으로 조절하는 동시 실행 한도 (AIMD)
+ *
+ * - 목표 지연 이내로 끝난 요청: 한도를 1/limit씩 늘림 (한도만큼 성공하면 +1)
+ * - 목표 지연 초과 또는 서버 오류: 한도를 backoffRatio 배로 줄임
+ * 과부하가 시작되면 이미 실행 중인 요청들이 한꺼번에 느린 결과를 보고하므로, 마지막 감소 이후에 시작된 요청의 결과로만 다시 줄입니다.
+ * 한도의 절반도 쓰지 않는 한가한 시기에는 늘리지 않습니다. (평소에 한도가 최대치로 부풀어 과부하 초기에 막지 못하는 것 방지)
+ *
+ * 입장(tryAcquire)은 CAS만 사용하고, 한도 갱신(요청 완료 시)만 짧게 동기화합니다.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    static final int REJECTED = -1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecreaseNanos;  // this로 보호
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long latencyTargetNanos, double backoffRatio) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit
+                || latencyTargetNanos <= 0 || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * @return 입장 시점의 실행 중 요청 수(자신 제외), 한도 초과면 REJECTED
+     */
+    int tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return REJECTED;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current;
+            }
+        }
+    }
+
+    // 한도 조절에 쓰지 않는 완료 (요청 제한/잘못된 요청 등 목표 지연 안에 끝난 클라이언트 오류)
+    void release() {
+        inflight.decrementAndGet();
+    }
+
+    boolean isSlow(long startNanos, long endNanos) {
+        return endNanos - startNanos > latencyTargetNanos;
+    }
+
+    /**
+     * 완료된 요청의 결과로 한도를 조절합니다.
+     * @param startNanos tryAcquire 직전의 System.nanoTime()
+     * @param endNanos 요청이 끝난 시점의 System.nanoTime()
+     * @param inflightAtStart tryAcquire가 반환한 값
+     * @param failed 서버 오류(5xx, 예외) 여부
+     */
+    void onComplete(long startNanos, long endNanos, int inflightAtStart, boolean failed) {
+        inflight.decrementAndGet();
+        boolean overloaded = failed || isSlow(startNanos, endNanos);
+        synchronized (this) {
+            double current = limit;
+            if (overloaded) {
+                if (startNanos - lastDecreaseNanos > 0) {
+                    limit = Math.max(minLimit, current * backoffRatio);
+                    lastDecreaseNanos = endNanos;
+                }
+            } else if (inflightAtStart * 2 >= (int) current) {
+                limit = Math.min(maxLimit, current + 1.0 / current);
+            }
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.springboot_starter_auth.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 로그인 경로(카카오 콜백, OAuth2 로그인 코드 교환)의 적응형 동시 실행 제한
+ *
+ * 과부하 시 카카오 호출로 막힌 로그인 요청이 Tomcat 대기열에 쌓여 모두 타임아웃되는 대신,
+ * 한도를 넘는 요청은 즉시 503으로 돌려보내 입장한 요청의 지연을 일정하게 유지합니다. (한도는 AdaptiveConcurrencyLimit 참고)
+ *
+ * OAuth2LoginAuthenticationFilter보다 먼저 실행되어야 하므로 SecurityConfig에서 보안 필터 체인에 등록합니다. (서블릿 필터 자동 등록은 끔)
+ */
+@Component
+public class LoginConcurrencyFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final AdaptiveConcurrencyLimit limit;
+    private final Counter rejectedCounter;
+
+    public LoginConcurrencyFilter(@Value("${login-concurrency.enabled:true}") boolean enabled,
+                                  @Value("${login-concurrency.paths:/auth/kakao/callback,/login/oauth2/code/**}") String paths,
+                                  @Value("${login-concurrency.initial-limit:20}") int initialLimit,
+                                  @Value("${login-concurrency.min-limit:4}") int minLimit,
+                                  @Value("${login-concurrency.max-limit:200}") int maxLimit,
+                                  @Value("${login-concurrency.latency-target-ms:1500}") long latencyTargetMs,
+                                  @Value("${login-concurrency.backoff-ratio:0.9}") double backoffRatio,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        for (String path : paths.split(",")) {
+            String trimmed = path.trim();
+            if (trimmed.endsWith("/**")) {
+                prefixes.add(trimmed.substring(0, trimmed.length() - 2));
+            } else if (!trimmed.isEmpty()) {
+                exactPaths.add(trimmed);
+            }
+        }
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTargetMs * 1_000_000, backoffRatio);
+
+        Gauge.builder("auth.login.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit).register(meterRegistry);
+        Gauge.builder("auth.login.concurrency.inflight", limit, AdaptiveConcurrencyLimit::inflight).register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("auth.login.concurrency.rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String path = contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+        if (exactPaths.contains(path)) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        int inflightAtStart = limit.tryAcquire();
+        if (inflightAtStart == AdaptiveConcurrencyLimit.REJECTED) {
+            rejectedCounter.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long end = System.nanoTime();
+            int status = response.getStatus();
+            if (!failed && status >= 400 && status < 500 && !limit.isSlow(start, end)) {
+                // 요청 제한(429)이나 파라미터 누락(400)처럼 곧바로 끝난 응답은 한도를 늘리는 근거로 쓰지 않음
+                // (목표 지연을 넘긴 4xx는 과부하 신호이므로 아래에서 그대로 반영)
+                limit.release();
+            } else {
+                // 카카오 타임아웃/회로 차단/5xx는 GlobalExceptionHandler에서 503으로 응답하므로 실패로 집계됨
+                limit.onComplete(start, end, inflightAtStart, failed || status >= 500);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.springboot_starter_auth.global.ratelimit;
+
+import com.example.springboot_starter_auth.global.logging.RequestCorrelationFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 관련 공개 API의 클라이언트별 요청 제한 (토큰 버킷)
+ *
+ * 카카오 콜백처럼 인증 없이 호출되면서 외부 호출을 일으키는 경로를 가짜 코드로 반복 호출하는 것을 막습니다.
+ * 경로별 한도는 rate-limit.routes에 "경로=용량/기간" 형식으로 지정하며(정확히 일치하는 경로만),
+ * 클라이언트는 인증된 사용자 ID, 없으면 접속 IP로 구분합니다. (프록시 뒤에서는 server.forward-headers-strategy가 필요 - application-prod.yml 참고)
+ *
+ * 보안 필터 체인 안에서 JwtAuthenticationFilter 다음에 실행됩니다. (SecurityConfig에서 등록, 서블릿 필터 자동 등록은 끔)
+ * 한도 초과 시 본문 없이 429와 Retry-After만 돌려주고, 이후 필터/컨트롤러는 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int SHARDS = 16;
+
+    private final boolean enabled;
+    // 경로 -> 경로별 버킷 (시작 후 변경되지 않으므로 HashMap 조회)
+    private final Map<String, TokenBucketLimiter> limiters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    public RateLimitFilter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.routes:}") String routes,
+                           @Value("${rate-limit.max-buckets-per-route:100000}") int maxBucketsPerRoute,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        for (String entry : routes.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            // "/auth/kakao/callback=10/1m" -> 1분에 10회 (순간 최대 10회)
+            int separator = entry.indexOf('=');
+            int slash = entry.indexOf('/', separator);
+            if (separator <= 0 || slash < 0) {
+                throw new IllegalArgumentException("rate-limit.routes entries must be path=capacity/period: " + entry);
+            }
+            String path = entry.substring(0, separator).trim();
+            int capacity = Integer.parseInt(entry.substring(separator + 1, slash).trim());
+            Duration period = DurationStyle.detectAndParse(entry.substring(slash + 1).trim());
+
+            TokenBucketLimiter limiter = new TokenBucketLimiter(capacity, period.toNanos(), SHARDS, maxBucketsPerRoute);
+            limiters.put(path, limiter);
+            rejectedCounters.put(path, Counter.builder("ratelimit.rejected").tag("route", path).register(meterRegistry));
+            Gauge.builder("ratelimit.buckets", limiter, TokenBucketLimiter::size).tag("route", path).register(meterRegistry);
+            FunctionCounter.builder("ratelimit.overflowed", limiter, TokenBucketLimiter::overflowedCount)
+                    .tag("route", path)
+                    .register(meterRegistry);
+            log.info("Rate limit {}: {} requests per {}", path, capacity, period);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !limiters.containsKey(pathOf(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = pathOf(request);
+        long waitNanos = limiters.get(path).tryAcquire(clientKey(request), System.nanoTime());
+        if (waitNanos != TokenBucketLimiter.ALLOWED) {
+            rejectedCounters.get(path).increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 한동안 요청이 없어 가득 찬 버킷을 정리합니다.
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (TokenBucketLimiter limiter : limiters.values()) {
+            evicted += limiter.evictIdle(now);
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+    }
+
+    // Retry-After는 초 단위 정수이므로 올림 (0초로 보내면 클라이언트가 즉시 재시도)
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+    }
+
+    // 인증된 요청은 사용자 ID(JwtAuthenticationFilter가 MDC에 기록), 아니면 IP로 구분
+    private static String clientKey(HttpServletRequest request) {
+        String userId = MDC.get(RequestCorrelationFilter.MDC_USER_ID);
+        return userId != null ? userId : request.getRemoteAddr();
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.springboot_starter_auth.global.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 응답 시간 분포로 정하는 타임아웃
+ *
+ * 최근 응답 window개의 지연을 링 버퍼에 기록하고, 일정 건수마다 지정 백분위 x 배수로 타임아웃을 다시 계산합니다.
+ * 결과는 [min, max]로 제한하며, 표본이 minSamples개 모이기 전에는 initial 값을 사용합니다.
+ * 타임아웃된 호출도 "최소 그만큼 걸린" 표본으로 남기고 타임아웃을 즉시 2배로 늘립니다. (max까지)
+ * (성공 표본만 쓰면 지연이 타임아웃보다 커진 뒤에는 모든 호출이 실패해 표본이 없으므로 영원히 늘어나지 못함)
+ * 조회(current)는 volatile 읽기 한 번이고, 재계산은 기록하는 스레드 중 하나가 가끔 수행합니다.
+ */
+public class AdaptiveTimeout {
+
+    private static final int RECOMPUTE_EVERY = 32;
+    // 타임아웃 발생 시 타임아웃을 늘리는 배수
+    private static final double TIMEOUT_BACKOFF = 2.0;
+
+    private final long minMillis;
+    private final long maxMillis;
+    private final double percentile;
+    private final double multiplier;
+    private final int minSamples;
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long currentMillis;
+
+    public AdaptiveTimeout(Duration initial, Duration min, Duration max, double percentile, double multiplier, int window) {
+        if (min.compareTo(max) > 0 || percentile <= 0 || percentile >= 1 || multiplier < 1 || window <= 0) {
+            throw new IllegalArgumentException("Invalid adaptive timeout settings");
+        }
+        this.minMillis = min.toMillis();
+        this.maxMillis = max.toMillis();
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.samples = new AtomicLongArray(window);
+        this.minSamples = Math.min(window, Math.max(RECOMPUTE_EVERY, window / 4));
+        this.currentMillis = clamp(initial.toMillis());
+    }
+
+    public Duration current() {
+        return Duration.ofMillis(currentMillis);
+    }
+
+    public long currentMillis() {
+        return currentMillis;
+    }
+
+    // 응답을 받은 호출(성공 또는 HTTP 오류)의 지연을 기록합니다.
+    public void record(long latencyMillis) {
+        long count = recorded.getAndIncrement();
+        samples.set((int) (count % samples.length()), latencyMillis);
+        if (count + 1 >= minSamples && (count + 1) % RECOMPUTE_EVERY == 0) {
+            recompute((int) Math.min(count + 1, samples.length()));
+        }
+    }
+
+    /**
+     * 타임아웃된 호출을 기록합니다.
+     * 타임아웃을 "걸린 시간 x 2"까지 즉시 늘리고(같은 타임아웃으로 동시에 실패한 호출들은 한 번만 늘림), 걸린 시간을 표본으로 남깁니다.
+     * 타임아웃이 드물면 다음 재계산에서 다시 백분위 기준으로 돌아갑니다.
+     * @param elapsedMillis 호출 시작부터 타임아웃까지 걸린 시간 (최소 그 호출에 적용된 타임아웃)
+     */
+    public void recordTimeout(long elapsedMillis) {
+        long raised = clamp(Math.round(elapsedMillis * TIMEOUT_BACKOFF));
+        if (raised > currentMillis) {
+            // 동시에 쓰는 값은 모두 비슷하므로 경합 시 어느 값이 남아도 무방합니다. (recompute와 같은 방식)
+            currentMillis = raised;
+        }
+        record(elapsedMillis);
+    }
+
+    private void recompute(int size) {
+        long[] window = new long[size];
+        for (int i = 0; i < size; i++) {
+            window[i] = samples.get(i);
+        }
+        Arrays.sort(window);
+        long observed = window[Math.min(size - 1, (int) Math.ceil(size * percentile) - 1)];
+        currentMillis = clamp(Math.round(observed * multiplier));
+    }
+
+    private long clamp(long millis) {
+        return Math.max(minMillis, Math.min(maxMillis, millis));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.springboot_starter_auth.global.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 인증 토큰 쿠키 생성 (로그인 콜백, 토큰 재발급, 로그아웃에서 공통으로 사용)
+@Component
+@RequiredArgsConstructor
+public class CookieUtil {
+
+    public static final String ACCESS_TOKEN_COOKIE = "accessToken";
+    public static final String REFRESH_TOKEN_COOKIE = "refreshToken";
+
+    private final EnvironmentUtil envUtil;
+
+    // 액세스 토큰 쿠키
+    public ResponseCookie accessTokenCookie(String accessToken) {
+        return baseCookie(ACCESS_TOKEN_COOKIE, accessToken)
+                .maxAge(Duration.ofSeconds(3600))  // 1시간
+                .build();
+    }
+
+    // 리프레시 토큰 쿠키
+    public ResponseCookie refreshTokenCookie(String refreshToken) {
+        return baseCookie(REFRESH_TOKEN_COOKIE, refreshToken)
+                .maxAge(Duration.ofSeconds(604800))  // 7일
+                .build();
+    }
+
+    // 쿠키 삭제를 위해 만료시간을 0으로 설정
+    public ResponseCookie expiredCookie(String name) {
+        return baseCookie(name, "")
+                .maxAge(0)
+                .build();
+    }
+
+    private ResponseCookie.ResponseCookieBuilder baseCookie(String name, String value) {
+        // 유틸로 환경 체크 (HTTP 환경에서는 secure=false)
+        boolean cookieSecure = !envUtil.isHttpEnvironment();  // local: false, dev/prod: true
+        return ResponseCookie.from(name, value)
+                .httpOnly(true)          // JS 접근 불가
+                .secure(cookieSecure)
+                .sameSite("Lax")         // Strict -> Lax로 변경 (리다이렉트 시 쿠키 전달 허용)
+                .path("/");              // 전체 경로
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.springboot_starter_auth.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+// BoilerPlate Class
+public class HashUtil {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private HashUtil() {}  // 인스턴스화 방지
+
+    // 원문(토큰, 인가 코드 등)을 메모리에 그대로 들고 있지 않도록 SHA-256 다이제스트로 변환합니다.
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.springboot_starter_auth.global.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 작업을 한 번만 실행하고, 나머지 호출자는 그 결과(또는 예외)를 함께 받습니다.
+ * 결과를 캐시하지 않으며, 실행이 끝나면 키가 바로 제거되므로 이후 호출은 다시 실행됩니다.
+ * 키마다 별도의 future를 쓰므로 서로 다른 키끼리는 대기하지 않습니다. (ConcurrentHashMap의 bin 단위 락만 사용)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * 진행 중인 같은 키의 작업이 있으면 그 결과를 기다리고, 없으면 현재 스레드에서 supplier를 실행합니다.
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            own.complete(value);
+            return value;
+        } catch (Throwable e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 다른 작업이 같은 키로 새로 등록한 future를 지우지 않도록 자신의 future만 제거
+            inFlight.remove(key, own);
+        }
+    }
+
+    // 진행 중인 작업 수
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // 다른 호출자의 결과를 공유받은 누적 횟수
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
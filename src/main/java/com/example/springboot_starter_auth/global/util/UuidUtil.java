@@ -1,10 +1,41 @@
 package com.example.springboot_starter_auth.global.util;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
-// BoilerPlate Class
+// 요청 추적 ID 생성
 public class UuidUtil {
+
+    /**
+     * 시간 순서로 정렬되는 UUID(v7 형식)를 생성합니다.
+     * 앞 48비트는 epoch millis, 나머지는 ThreadLocalRandom 난수입니다.
+     * 보안 토큰이 아닌 추적용 ID이므로 SecureRandom(UUID.randomUUID)을 쓰지 않아 부하 시 경합이 없습니다.
+     */
     public static String generateRequestId() {
-        return UUID.randomUUID().toString();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16)
+                | 0x7000L                          // version 7
+                | (random.nextLong() & 0x0FFFL);   // rand_a (12비트)
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;             // variant (10)
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    /**
+     * 클라이언트가 보낸 요청 ID를 로그에 그대로 써도 되는지 확인합니다. (길이 제한, 영문/숫자/-_.: 만 허용)
+     */
+    public static boolean isValidRequestId(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > 64) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,16 @@
+-- 리프레시 토큰 회전(rotation) 저장소 (jwt.refresh-token.store=jdbc 일 때 사용)
+-- 토큰 원문은 저장하지 않고 jti(token_id)와 family 단위 상태만 보관합니다.
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    token_id   VARCHAR(64) NOT NULL PRIMARY KEY,
+    family_id  VARCHAR(64) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    role       VARCHAR(20) NOT NULL,
+    expires_at BIGINT      NOT NULL, -- epoch millis
+    used       BOOLEAN     NOT NULL DEFAULT FALSE,
+    revoked    BOOLEAN     NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,24 @@
+-- 사용자 테이블 (User 엔티티와 동일한 구조)
+-- 이전에 ddl-auto로 만들어진 운영 DB에도 적용될 수 있도록 IF NOT EXISTS로 작성합니다.
+CREATE TABLE IF NOT EXISTS users
+(
+    user_id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    kakao_id          BIGINT       NOT NULL,
+    nickname          VARCHAR(255) NOT NULL,
+    profile_image_url VARCHAR(500),
+    email             VARCHAR(255),
+    role              VARCHAR(20)  NOT NULL DEFAULT 'USER',
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    created_by        VARCHAR(255),
+    modified_by       VARCHAR(255)
+);
+
+-- role 컬럼이 없던 기존 테이블 보정
+ALTER TABLE users ADD COLUMN IF NOT EXISTS role VARCHAR(20) NOT NULL DEFAULT 'USER';
+
+-- 로그인 upsert(ON CONFLICT (kakao_id))의 충돌 대상이자 kakaoId -> (user_id, role) 조회용 커버링 인덱스
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_kakao_id ON users (kakao_id) INCLUDE (user_id, role);
+
+-- 마이페이지 프로필 조회(닉네임/프로필 요약)를 테이블 접근 없이 인덱스만으로 처리
+CREATE INDEX IF NOT EXISTS ix_users_profile ON users (user_id) INCLUDE (nickname, profile_image_url, email);
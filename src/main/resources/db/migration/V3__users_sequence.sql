@@ -0,0 +1,9 @@
+-- User.id를 IDENTITY에서 pooled 시퀀스(allocationSize = 50)로 전환
+-- INCREMENT BY는 엔티티의 allocationSize와 반드시 같아야 합니다.
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+-- 기존 ID와 겹치지 않도록 다음 블록이 MAX(user_id) + 1부터 시작하게 맞춥니다.
+SELECT setval('users_seq', COALESCE((SELECT MAX(user_id) FROM users), 0) + 50, false);
+
+-- 이제 ID는 애플리케이션(시퀀스)이 정하므로 IDENTITY 속성을 제거합니다.
+ALTER TABLE users ALTER COLUMN user_id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,10 @@
+-- 폐기된 리프레시 토큰 family (jwt.refresh-token.store=jdbc 일 때 사용)
+-- refresh_tokens.revoked 갱신은 이미 저장된 행에만 적용되므로, 폐기 이후에 저장되는 같은 family의 토큰도
+-- 막을 수 있도록 family 단위 폐기 기록을 따로 보관합니다. (expires_at 이후에는 family의 모든 토큰도 만료됨)
+CREATE TABLE IF NOT EXISTS revoked_token_families
+(
+    family_id  VARCHAR(64) NOT NULL PRIMARY KEY,
+    expires_at BIGINT      NOT NULL -- epoch millis
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_families_expires_at ON revoked_token_families (expires_at);
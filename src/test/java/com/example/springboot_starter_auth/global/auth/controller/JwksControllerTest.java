@@ -0,0 +1,68 @@
+package com.example.springboot_starter_auth.global.auth.controller;
+
+import com.example.springboot_starter_auth.global.auth.jwt.JwtSigningKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksControllerTest {
+
+    private JwksController controller;
+    private String etag;
+
+    @BeforeEach
+    void setUp() {
+        JwtSigningKeys signingKeys = new JwtSigningKeys("unit-test-secret-key-for-jwks-controller-0123456789",
+                JwtSigningKeys.HMAC, "", "", "", true);
+        controller = new JwksController(signingKeys, 300);
+        etag = controller.jwks(webRequest(null, new MockHttpServletResponse())).getHeaders().getETag();
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/.well-known/jwks.json");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    @Test
+    void withoutIfNoneMatchReturnsBodyWithETag() {
+        ResponseEntity<String> result = controller.jwks(webRequest(null, new MockHttpServletResponse()));
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(result.getHeaders().getCacheControl()).contains("max-age=300");
+        assertThat(result.getBody()).contains("\"keys\"");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%s", "W/%s", "\"other\", %s", "\"other\",W/%s", "*"})
+    void matchingIfNoneMatchReturnsNotModified(String header) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<String> result = controller.jwks(webRequest(header.formatted(etag), response));
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=300");
+    }
+
+    @Test
+    void staleIfNoneMatchReturnsBody() {
+        ResponseEntity<String> result = controller.jwks(webRequest("\"stale\", W/\"older\"", new MockHttpServletResponse()));
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isNotNull();
+    }
+}
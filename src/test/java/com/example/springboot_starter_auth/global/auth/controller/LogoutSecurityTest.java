@@ -0,0 +1,121 @@
+package com.example.springboot_starter_auth.global.auth.controller;
+
+import com.example.springboot_starter_auth.global.auth.jwt.JwtSigningKeys;
+import com.example.springboot_starter_auth.global.auth.jwt.JwtTokenProvider;
+import com.example.springboot_starter_auth.global.auth.jwt.SlidingTokenReissuer;
+import com.example.springboot_starter_auth.global.auth.jwt.TokenDenylist;
+import com.example.springboot_starter_auth.global.auth.jwt.VerifiedToken;
+import com.example.springboot_starter_auth.global.auth.service.RefreshTokenService;
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import com.example.springboot_starter_auth.global.util.CookieUtil;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이미 쓸 수 없는 액세스 토큰(만료/로그아웃으로 폐기)으로도 실제 로그아웃 경로가 인증 없이 실행되는지 확인합니다.
+ * (보안 필터 체인에서 401로 막히면 쿠키 삭제와 리프레시 토큰 family 폐기가 일어나지 않음)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LogoutSecurityTest {
+
+    private static final long USER_ID = 42L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtSigningKeys signingKeys;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private TokenDenylist tokenDenylist;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private SlidingTokenReissuer tokenReissuer;
+
+    private ResultActions logout(String accessToken, String refreshToken) throws Exception {
+        return mockMvc.perform(post(AuthController.LOGOUT_PATH)
+                .cookie(new Cookie(CookieUtil.ACCESS_TOKEN_COOKIE, accessToken),
+                        new Cookie(CookieUtil.REFRESH_TOKEN_COOKIE, refreshToken)));
+    }
+
+    private static void assertCookiesCleared(ResultActions result) throws Exception {
+        result.andExpect(status().isOk())
+                .andExpect(cookie().maxAge(CookieUtil.ACCESS_TOKEN_COOKIE, 0))
+                .andExpect(cookie().maxAge(CookieUtil.REFRESH_TOKEN_COOKIE, 0));
+    }
+
+    @Test
+    void logoutWithExpiredAccessTokenClearsCookiesAndRevokesFamily() throws Exception {
+        long past = System.currentTimeMillis() - 60_000;
+        String expired = signingKeys.sign(Jwts.builder()
+                        .subject(Long.toString(USER_ID))
+                        .id(UUID.randomUUID().toString())
+                        .claim(JwtTokenProvider.ROLES_CLAIM, Role.USER.name())
+                        .issuedAt(new Date(past - 60_000))
+                        .expiration(new Date(past)))
+                .compact();
+        String refreshToken = refreshTokenService.issue(USER_ID, Role.USER);
+
+        assertCookiesCleared(logout(expired, refreshToken));
+
+        assertThat(refreshTokenService.rotate(refreshToken)).isEmpty();
+    }
+
+    @Test
+    void logoutWithDenylistedAccessTokenClearsCookiesAndRevokesFamily() throws Exception {
+        String accessToken = jwtTokenProvider.createAccessToken(USER_ID, Role.USER);
+        VerifiedToken verified = jwtTokenProvider.verify(accessToken).orElseThrow();
+        tokenDenylist.revoke(verified.tokenId(), verified.expiresAtMillis());
+        String refreshToken = refreshTokenService.issue(USER_ID, Role.USER);
+
+        assertCookiesCleared(logout(accessToken, refreshToken));
+
+        assertThat(refreshTokenService.rotate(refreshToken)).isEmpty();
+    }
+
+    @Test
+    void logoutAfterSlidingReissueAlsoRevokesPreviousToken() throws Exception {
+        long now = System.currentTimeMillis();
+        String expiring = signingKeys.sign(Jwts.builder()
+                        .header().type(JwtTokenProvider.ACCESS_TOKEN_TYPE).and()
+                        .subject(Long.toString(USER_ID))
+                        .id(UUID.randomUUID().toString())
+                        .claim(JwtTokenProvider.ROLES_CLAIM, Role.USER.name())
+                        .issuedAt(new Date(now))
+                        .expiration(new Date(now + 60_000)))
+                .compact();
+        VerifiedToken previous = jwtTokenProvider.verify(expiring).orElseThrow();
+        String reissued = tokenReissuer.reissueIfExpiring(previous);
+        assertThat(reissued).isNotNull();
+        VerifiedToken current = jwtTokenProvider.verify(reissued).orElseThrow();
+
+        // 쿠키에는 재발급된 토큰만 있음
+        assertCookiesCleared(logout(reissued, refreshTokenService.issue(USER_ID, Role.USER)));
+
+        assertThat(tokenDenylist.isRevoked(current.tokenId(), current.expiresAtMillis())).isTrue();
+        assertThat(tokenDenylist.isRevoked(previous.tokenId(), previous.expiresAtMillis())).isTrue();
+    }
+
+    @Test
+    void logoutWithoutCookiesStillSucceeds() throws Exception {
+        assertCookiesCleared(mockMvc.perform(post(AuthController.LOGOUT_PATH)));
+    }
+}
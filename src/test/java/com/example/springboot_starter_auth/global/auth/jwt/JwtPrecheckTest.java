@@ -0,0 +1,105 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtPrecheckTest {
+
+    private static final int MAX_LENGTH = 4096;
+
+    private static String segment(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String token(String headerJson, String payloadJson) {
+        return segment(headerJson) + "." + segment(payloadJson) + ".c2ln";
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "a.b", "a..c", ".b.c", "a.b.", "a.b.c.d", "a.b+c.d", "a b.c.d", "a.b=.c", "undefined"})
+    void rejectsMalformedStructure(String token) {
+        assertThat(JwtPrecheck.structure(token, MAX_LENGTH)).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a.b.c", "eyJ.eyJ.sig-_", "A1_-.b2.c3"})
+    void acceptsWellFormedStructure(String token) {
+        assertThat(JwtPrecheck.structure(token, MAX_LENGTH)).isEqualTo(token.lastIndexOf('.'));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {MAX_LENGTH + 1, MAX_LENGTH * 2})
+    void rejectsOverlongToken(int length) {
+        String token = "a." + "b".repeat(length - 4) + ".c";
+
+        assertThat(JwtPrecheck.structure(token, MAX_LENGTH)).isEqualTo(-1);
+    }
+
+    static Stream<Arguments> algorithms() {
+        return Stream.of(
+                Arguments.of("{\"alg\":\"HS256\"}", "HS256"),
+                Arguments.of("{ \"typ\" : \"JWT\" , \"alg\" : \"ES256\" }", "ES256"),
+                Arguments.of("{\"alg\":\"none\"}", "none"),
+                // 문자열 값이나 중첩 객체 안의 "alg"는 최상위 키가 아님
+                Arguments.of("{\"kid\":\"\\\"alg\\\":\\\"x\\\"\",\"alg\":\"HS256\"}", "HS256"),
+                Arguments.of("{\"x\":{\"alg\":\"HS256\"}}", null),
+                Arguments.of("{\"typ\":\"JWT\"}", null),
+                Arguments.of("{\"alg\":\"HS\\u0032\"}", null),
+                Arguments.of("{\"alg\":256}", null),
+                Arguments.of("{\"alg\":\"HS256\",\"alg\":\"none\"}", null),
+                Arguments.of("[\"alg\",\"HS256\"]", null),
+                Arguments.of("{\"alg\":\"HS256\"", null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms")
+    void readsTopLevelAlgorithm(String headerJson, String expected) {
+        assertThat(JwtPrecheck.algorithm(token(headerJson, "{}"))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!.e30.c2ln", "e30.e30.c2ln"})
+    void algorithmOfUndecodableOrEmptyHeaderIsNull(String token) {
+        assertThat(JwtPrecheck.algorithm(token)).isNull();
+    }
+
+    static Stream<Arguments> expiries() {
+        return Stream.of(
+                Arguments.of("{\"exp\":1700000000}", 1700000000L),
+                Arguments.of("{\"sub\":\"1\", \"exp\" : 42}", 42L),
+                Arguments.of("{\"exp\":0}", 0L),
+                Arguments.of("{\"exp\":999999999999999999}", 999999999999999999L),
+                // 중첩 객체/배열/문자열 안의 exp는 무시
+                Arguments.of("{\"x\":{\"exp\":1}}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"x\":{\"exp\":1},\"exp\":99}", 99L),
+                Arguments.of("{\"x\":[{\"exp\":1}],\"y\":2}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"note\":\"\\\"exp\\\":1\"}", JwtPrecheck.NO_EXPIRY),
+                // 모호하거나 숫자가 아니면 파서에 맡김
+                Arguments.of("{\"exp\":1,\"exp\":2}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"exp\":\"1\"}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"exp\":[1]}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"exp\":-1}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"exp\":1234567890123456789}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"sub\":\"1\"}", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("{\"exp\":1", JwtPrecheck.NO_EXPIRY),
+                Arguments.of("not json", JwtPrecheck.NO_EXPIRY)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("expiries")
+    void readsTopLevelExpiry(String payloadJson, long expected) {
+        String token = token("{\"alg\":\"HS256\"}", payloadJson);
+
+        assertThat(JwtPrecheck.expirySeconds(token, token.lastIndexOf('.'))).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "unit-test-secret-key-for-jwt-token-provider-0123456789";
+
+    private JwtSigningKeys signingKeys;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        signingKeys = new JwtSigningKeys(SECRET, JwtSigningKeys.HMAC, "", "", "", true);
+        jwtTokenProvider = new JwtTokenProvider(signingKeys, 3600, 1209600, false, 10_000, new SimpleMeterRegistry());
+    }
+
+    private String signed(Map<String, ?> claims, long expiresAtMillis) {
+        return signingKeys.sign(Jwts.builder()
+                        .subject("42")
+                        .claims(claims)
+                        .expiration(new Date(expiresAtMillis)))
+                .compact();
+    }
+
+    private static String withHeader(String headerJson) {
+        String header = Base64.getUrlEncoder().withoutPadding().encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"42\",\"exp\":4102444800}".getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".c2lnbmF0dXJl";
+    }
+
+    @Test
+    void issuedTokenIsValid() {
+        String token = jwtTokenProvider.createAccessToken(42L, Role.USER);
+
+        TokenVerification verification = jwtTokenProvider.verifyAccessToken(token);
+
+        assertThat(verification.status()).isEqualTo(TokenVerification.Status.VALID);
+        assertThat(verification.token().userId()).isEqualTo("42");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"undefined", "a.b", "a.b.c.d", "a..c", "eyJ.eyJ.sig=="})
+    void malformedTokensAreRejected(String token) {
+        assertThat(jwtTokenProvider.verifyAccessToken(token).status()).isEqualTo(TokenVerification.Status.MALFORMED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"alg\":\"none\"}", "{\"alg\":\"RS256\"}", "{\"alg\":\"ES256\",\"kid\":\"unknown\"}"})
+    void unsupportedAlgorithmsAreRejected(String headerJson) {
+        assertThat(jwtTokenProvider.verifyAccessToken(withHeader(headerJson)).status())
+                .isEqualTo(TokenVerification.Status.UNSUPPORTED_ALGORITHM);
+    }
+
+    @Test
+    void nestedExpDoesNotCountAsTokenExpiry() {
+        String token = signed(Map.of("x", Map.of("exp", 1)), System.currentTimeMillis() + 60_000);
+
+        assertThat(jwtTokenProvider.verifyAccessToken(token).status()).isEqualTo(TokenVerification.Status.VALID);
+    }
+
+    @Test
+    void tokenJustPastExpiryIsExpired() {
+        String token = signed(Map.of(), System.currentTimeMillis() - 1000);
+
+        assertThat(jwtTokenProvider.verifyAccessToken(token).status()).isEqualTo(TokenVerification.Status.EXPIRED);
+    }
+
+    @Test
+    void tokenJustBeforeExpiryIsValid() {
+        // exp는 초 단위로 잘리므로 2초 뒤로 잡아야 "1초 이상 남은" 토큰이 됩니다.
+        String token = signed(Map.of(), System.currentTimeMillis() + 2000);
+
+        assertThat(jwtTokenProvider.verifyAccessToken(token).status()).isEqualTo(TokenVerification.Status.VALID);
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() {
+        String token = jwtTokenProvider.createAccessToken(42L, Role.USER);
+        String tampered = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+
+        assertThat(jwtTokenProvider.verifyAccessToken(tampered).status()).isEqualTo(TokenVerification.Status.BAD_SIGNATURE);
+    }
+
+    @Test
+    void tokensCarryTheirTypeHeader() {
+        String access = jwtTokenProvider.createAccessToken(42L, Role.USER);
+        String refresh = jwtTokenProvider.createRefreshToken(42L, "jti", "family");
+
+        assertThat(header(access)).contains("\"typ\":\"" + JwtTokenProvider.ACCESS_TOKEN_TYPE + "\"");
+        assertThat(header(refresh)).contains("\"typ\":\"" + JwtTokenProvider.REFRESH_TOKEN_TYPE + "\"");
+    }
+
+    @Test
+    void refreshTokenIsNotAnAccessToken() {
+        String refresh = jwtTokenProvider.createRefreshToken(42L, "jti", "family");
+
+        assertThat(jwtTokenProvider.verifyAccessToken(refresh).status()).isEqualTo(TokenVerification.Status.REJECTED);
+    }
+
+    @Test
+    void accessTokenIsNotARefreshToken() {
+        String access = jwtTokenProvider.createAccessToken(42L, Role.USER);
+
+        assertThat(jwtTokenProvider.parseRefreshToken(access)).isEmpty();
+        assertThat(jwtTokenProvider.parseRefreshToken(jwtTokenProvider.createRefreshToken(42L, "jti", "family"))).isPresent();
+    }
+
+    @Test
+    void refreshTypedTokenWithoutFamilyIsNotAnAccessToken() {
+        // family 클레임이 없어도 typ만으로 거절
+        String token = signingKeys.sign(Jwts.builder()
+                        .header().type(JwtTokenProvider.REFRESH_TOKEN_TYPE).and()
+                        .subject("42")
+                        .expiration(new Date(System.currentTimeMillis() + 60_000)))
+                .compact();
+
+        assertThat(jwtTokenProvider.verifyAccessToken(token).status()).isEqualTo(TokenVerification.Status.REJECTED);
+    }
+
+    @Test
+    void accessTypedTokenWithFamilyIsNotARefreshToken() {
+        String token = signingKeys.sign(Jwts.builder()
+                        .header().type(JwtTokenProvider.ACCESS_TOKEN_TYPE).and()
+                        .subject("42")
+                        .id("jti")
+                        .claim(JwtTokenProvider.FAMILY_CLAIM, "family")
+                        .expiration(new Date(System.currentTimeMillis() + 60_000)))
+                .compact();
+
+        assertThat(jwtTokenProvider.parseRefreshToken(token)).isEmpty();
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SlidingTokenReissuerTest {
+
+    private static final String SECRET = "unit-test-secret-key-for-sliding-token-reissuer-0123456789";
+
+    private JwtSigningKeys signingKeys;
+    private JwtTokenProvider jwtTokenProvider;
+    private SlidingTokenReissuer reissuer;
+
+    @BeforeEach
+    void setUp() {
+        signingKeys = new JwtSigningKeys(SECRET, JwtSigningKeys.HMAC, "", "", "", true);
+        jwtTokenProvider = new JwtTokenProvider(signingKeys, 3600, 1209600, true, 10_000, new SimpleMeterRegistry());
+        reissuer = new SlidingTokenReissuer(jwtTokenProvider, true, 300, 1209600, 10_000, new SimpleMeterRegistry());
+    }
+
+    // 만료까지 expiresInMillis 남은 액세스 토큰
+    private VerifiedToken accessToken(long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        String token = signingKeys.sign(Jwts.builder()
+                        .header().type(JwtTokenProvider.ACCESS_TOKEN_TYPE).and()
+                        .subject("42")
+                        .id(UUID.randomUUID().toString())
+                        .claim(JwtTokenProvider.ROLES_CLAIM, Role.USER.name())
+                        .claim(JwtTokenProvider.AUTH_TIME_CLAIM, now / 1000)
+                        .issuedAt(new Date(now))
+                        .expiration(new Date(now + expiresInMillis)))
+                .compact();
+        return jwtTokenProvider.verify(token).orElseThrow();
+    }
+
+    @Test
+    void doesNotReissueOutsideWindow() {
+        VerifiedToken fresh = accessToken(3_000_000);
+
+        assertThat(reissuer.reissueIfExpiring(fresh)).isNull();
+        assertThat(reissuer.linkedTokens(fresh.tokenId())).isEmpty();
+    }
+
+    @Test
+    void reissuesOncePerSession() {
+        VerifiedToken expiring = accessToken(60_000);
+
+        String first = reissuer.reissueIfExpiring(expiring);
+        String second = reissuer.reissueIfExpiring(expiring);
+
+        assertThat(first).isNotNull().isEqualTo(second);
+        VerifiedToken next = jwtTokenProvider.verify(first).orElseThrow();
+        assertThat(next.tokenId()).isNotEqualTo(expiring.tokenId());
+        assertThat(next.authTimeMillis()).isEqualTo(expiring.authTimeMillis());
+    }
+
+    @Test
+    void linksPredecessorAndSuccessorBothWays() {
+        VerifiedToken expiring = accessToken(60_000);
+        VerifiedToken next = jwtTokenProvider.verify(reissuer.reissueIfExpiring(expiring)).orElseThrow();
+
+        // 새 토큰으로 로그아웃 -> 이전 토큰도 폐기 대상
+        assertThat(reissuer.linkedTokens(next.tokenId()))
+                .extracting(VerifiedToken::tokenId, VerifiedToken::expiresAtMillis)
+                .containsExactly(tuple(expiring.tokenId(), expiring.expiresAtMillis()));
+        // 이전 토큰으로 로그아웃 -> 이미 발급한 새 토큰도 폐기 대상
+        assertThat(reissuer.linkedTokens(expiring.tokenId()))
+                .extracting(VerifiedToken::tokenId, VerifiedToken::expiresAtMillis)
+                .containsExactly(tuple(next.tokenId(), next.expiresAtMillis()));
+    }
+
+    @Test
+    void revokingLinkedTokensDeniesBoth() {
+        TokenDenylist denylist = new TokenDenylist(3600, 1_000, 0.001);
+        VerifiedToken expiring = accessToken(60_000);
+        VerifiedToken next = jwtTokenProvider.verify(reissuer.reissueIfExpiring(expiring)).orElseThrow();
+
+        denylist.revoke(next.tokenId(), next.expiresAtMillis());
+        reissuer.linkedTokens(next.tokenId()).forEach(linked -> denylist.revoke(linked.tokenId(), linked.expiresAtMillis()));
+
+        assertThat(denylist.isRevoked(next.tokenId(), next.expiresAtMillis())).isTrue();
+        assertThat(denylist.isRevoked(expiring.tokenId(), expiring.expiresAtMillis())).isTrue();
+    }
+
+    @Test
+    void disabledReissuerHasNoLinks() {
+        SlidingTokenReissuer disabled = new SlidingTokenReissuer(jwtTokenProvider, false, 300, 1209600, 10_000, new SimpleMeterRegistry());
+        VerifiedToken expiring = accessToken(60_000);
+
+        assertThat(disabled.reissueIfExpiring(expiring)).isNull();
+        assertThat(disabled.linkedTokens(expiring.tokenId())).isEmpty();
+    }
+}
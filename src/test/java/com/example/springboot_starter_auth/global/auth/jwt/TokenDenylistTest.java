@@ -0,0 +1,111 @@
+package com.example.springboot_starter_auth.global.auth.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTest {
+
+    private static final long ACCESS_TOKEN_EXPIRATION_SECONDS = 3600;
+    private static final long WIDTH = ACCESS_TOKEN_EXPIRATION_SECONDS * 1000;
+
+    // 다음 버킷의 시작 시각 (현재 시각 이후라 폐기 가능한 exp)
+    private static long nextEpochStart() {
+        return (System.currentTimeMillis() / WIDTH + 1) * WIDTH;
+    }
+
+    @Test
+    void revokedTokenIsReportedOnlyForItsExpiry() {
+        TokenDenylist denylist = new TokenDenylist(ACCESS_TOKEN_EXPIRATION_SECONDS, 1000, 0.001);
+        long exp = nextEpochStart() + 1;
+
+        denylist.revoke("jti-1", exp);
+
+        assertThat(denylist.isRevoked("jti-1", exp)).isTrue();
+        assertThat(denylist.isRevoked("jti-2", exp)).isFalse();
+        assertThat(denylist.isRevoked("jti-1", exp + WIDTH)).isFalse();
+        assertThat(denylist.isRevoked(null, exp)).isFalse();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        TokenDenylist denylist = new TokenDenylist(ACCESS_TOKEN_EXPIRATION_SECONDS, 1000, 0.001);
+        long past = System.currentTimeMillis() - 1;
+
+        denylist.revoke("jti-1", past);
+
+        assertThat(denylist.isRevoked("jti-1", past)).isFalse();
+    }
+
+    @Test
+    void bucketReusingSlotReplacesExpiredBucket() {
+        TokenDenylist denylist = new TokenDenylist(ACCESS_TOKEN_EXPIRATION_SECONDS, 1000, 0.001);
+        long base = nextEpochStart();
+        long first = base + 1;
+        long second = base + WIDTH + 1;
+        // 슬롯 3개를 돌려 쓰므로 3버킷 뒤는 first와 같은 슬롯
+        long reusingFirstSlot = base + 3 * WIDTH + 1;
+
+        denylist.revoke("a", first);
+        denylist.revoke("b", second);
+        assertThat(denylist.isRevoked("a", first)).isTrue();
+        assertThat(denylist.isRevoked("b", second)).isTrue();
+
+        denylist.revoke("c", reusingFirstSlot);
+
+        assertThat(denylist.isRevoked("c", reusingFirstSlot)).isTrue();
+        assertThat(denylist.isRevoked("a", first)).isFalse();
+        assertThat(denylist.isRevoked("b", second)).isTrue();
+    }
+
+    @Test
+    void rotationKeepsBucketsThatAreNotExpired() {
+        TokenDenylist denylist = new TokenDenylist(ACCESS_TOKEN_EXPIRATION_SECONDS, 1000, 0.001);
+        long exp = nextEpochStart() + 1;
+        denylist.revoke("jti-1", exp);
+
+        denylist.rotateExpiredBuckets();
+
+        assertThat(denylist.isRevoked("jti-1", exp)).isTrue();
+    }
+
+    @Test
+    void bloomFalsePositivesAreRejectedByExactSet() {
+        // 비트가 적은 Bloom 필터(오탐률 50%)로 오탐 경로를 자주 타게 합니다.
+        TokenDenylist denylist = new TokenDenylist(ACCESS_TOKEN_EXPIRATION_SECONDS, 1000, 0.5);
+        long exp = nextEpochStart() + 1;
+        for (int i = 0; i < 1000; i++) {
+            denylist.revoke("revoked-" + i, exp);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(denylist.isRevoked("revoked-" + i, exp)).isTrue();
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(denylist.isRevoked("active-" + i, exp)).isFalse();
+        }
+    }
+
+    @Test
+    void saturatedBucketFailsClosed() {
+        // 정확한 집합 상한 10 -> 11번째 폐기부터 Bloom 양성을 그대로 폐기로 간주
+        TokenDenylist denylist = new TokenDenylist(ACCESS_TOKEN_EXPIRATION_SECONDS, 10, 0.5);
+        long exp = nextEpochStart() + 1;
+        for (int i = 0; i < 20; i++) {
+            denylist.revoke("revoked-" + i, exp);
+        }
+
+        // 폐기 누락 없음 (집합에 들어가지 못한 토큰 포함)
+        for (int i = 0; i < 20; i++) {
+            assertThat(denylist.isRevoked("revoked-" + i, exp)).isTrue();
+        }
+        // 대신 Bloom 오탐이 폐기로 보고됨 (작은 필터라 1000개 중 일부는 반드시 양성)
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (denylist.isRevoked("active-" + i, exp)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isPositive();
+    }
+}
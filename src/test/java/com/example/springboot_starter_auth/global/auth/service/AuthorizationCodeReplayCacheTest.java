@@ -0,0 +1,124 @@
+package com.example.springboot_starter_auth.global.auth.service;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import com.example.springboot_starter_auth.global.auth.user.repository.UserUpsertResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthorizationCodeReplayCacheTest {
+
+    private static final UserUpsertResult USER = new UserUpsertResult(1L, Role.USER, false);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuthorizationCodeReplayCache newCache(long awaitTimeoutMillis) {
+        return new AuthorizationCodeReplayCache(30, 1000, awaitTimeoutMillis, meterRegistry);
+    }
+
+    private double replayedCount() {
+        return meterRegistry.counter(AuthService.LOGIN_METRIC, "source", "kakao_callback", "result", "replayed").count();
+    }
+
+    @Test
+    void replayReusesIdentityWithoutExchangingAgain() {
+        AuthorizationCodeReplayCache cache = newCache(1000);
+        AtomicInteger exchanges = new AtomicInteger();
+
+        UserUpsertResult first = cache.exchangeOnce("code", code -> {
+            exchanges.incrementAndGet();
+            return USER;
+        });
+        UserUpsertResult replay = cache.exchangeOnce("code", code -> {
+            exchanges.incrementAndGet();
+            return USER;
+        });
+
+        assertThat(first).isEqualTo(USER);
+        assertThat(replay).isEqualTo(USER);
+        assertThat(exchanges).hasValue(1);
+    }
+
+    @Test
+    void failedExchangeIsNotCached() {
+        AuthorizationCodeReplayCache cache = newCache(1000);
+
+        assertThatThrownBy(() -> cache.exchangeOnce("code", code -> {
+            throw new IllegalStateException("kakao down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.exchangeOnce("code", code -> USER)).isEqualTo(USER);
+    }
+
+    @Test
+    void errorInExchangeReleasesWaitingReplay() throws Exception {
+        AuthorizationCodeReplayCache cache = newCache(10_000);
+        CountDownLatch exchangeStarted = new CountDownLatch(1);
+        CountDownLatch replayWaiting = new CountDownLatch(1);
+
+        Future<?> original = executor.submit(() -> cache.exchangeOnce("code", code -> {
+            exchangeStarted.countDown();
+            await(replayWaiting);
+            throw new AssertionError("unexpected");
+        }));
+        assertThat(exchangeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> replay = executor.submit(() -> cache.exchangeOnce("code", code -> USER));
+        // 재요청이 진행 중인 결과를 기다리기 시작한 뒤 원래 요청을 Error로 끝냄
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (replayedCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(replayedCount()).isEqualTo(1);
+        replayWaiting.countDown();
+
+        assertThatThrownBy(() -> original.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> replay.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AuthenticationServiceException.class);
+    }
+
+    @Test
+    void replayStopsWaitingAfterTimeout() throws Exception {
+        AuthorizationCodeReplayCache cache = newCache(100);
+        CountDownLatch exchangeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(() -> cache.exchangeOnce("code", code -> {
+            exchangeStarted.countDown();
+            await(release);
+            return USER;
+        }));
+        assertThat(exchangeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> cache.exchangeOnce("code", code -> USER))
+                    .isInstanceOf(AuthenticationServiceException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    @Override
+    protected RefreshTokenStore createStore() {
+        return new InMemoryRefreshTokenStore(REFRESH_TOKEN_EXPIRATION_SECONDS);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC 저장소: 공통 동작 + 같은 DB를 공유하는 두 노드 사이의 회전/폐기
+ * 스키마는 Flyway 마이그레이션 스크립트를 그대로 사용합니다. (H2)
+ */
+class JdbcRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    private EmbeddedDatabase database;
+
+    @Override
+    protected RefreshTokenStore createStore() {
+        database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("db/migration/V1__create_refresh_tokens.sql")
+                .addScript("db/migration/V4__create_revoked_token_families.sql")
+                .build();
+        return newNode();
+    }
+
+    @AfterEach
+    void shutdownDatabase() {
+        database.shutdown();
+    }
+
+    private JdbcRefreshTokenStore newNode() {
+        return new JdbcRefreshTokenStore(new JdbcTemplate(database), REFRESH_TOKEN_EXPIRATION_SECONDS);
+    }
+
+    @Test
+    void tokenIssuedOnOneNodeRotatesOnAnother() {
+        JdbcRefreshTokenStore nodeA = newNode();
+        JdbcRefreshTokenStore nodeB = newNode();
+
+        nodeA.save(token("t1", "f1", USER_ID));
+
+        assertThat(nodeB.find("t1")).isPresent();
+        assertThat(nodeB.markUsed("t1")).isTrue();
+        // 이미 노드 B에서 사용된 토큰 -> 노드 A의 캐시에는 미사용으로 남아 있어도 재사용으로 판단
+        assertThat(nodeA.find("t1")).isPresent();
+        assertThat(nodeA.markUsed("t1")).isFalse();
+    }
+
+    @Test
+    void familyRevokedOnOneNodeBlocksTokensSavedLaterOnAnother() {
+        JdbcRefreshTokenStore nodeA = newNode();
+        JdbcRefreshTokenStore nodeB = newNode();
+        nodeA.save(token("t1", "f1", USER_ID));
+
+        // 노드 B가 재사용을 감지해 family를 폐기한 뒤, 노드 A가 회전 중이던 자식 토큰을 저장
+        nodeB.revokeFamily("f1");
+        nodeA.save(token("t2", "f1", USER_ID));
+
+        assertThat(nodeA.isFamilyRevoked("f1")).isTrue();
+        assertThat(nodeA.markUsed("t2")).isFalse();
+        assertThat(nodeB.markUsed("t2")).isFalse();
+    }
+
+    @Test
+    void revokingTwiceIsHarmless() {
+        JdbcRefreshTokenStore nodeA = newNode();
+        JdbcRefreshTokenStore nodeB = newNode();
+        nodeA.save(token("t1", "f1", USER_ID));
+
+        nodeA.revokeFamily("f1");
+        nodeB.revokeFamily("f1");
+
+        assertThat(nodeB.isFamilyRevoked("f1")).isTrue();
+    }
+}
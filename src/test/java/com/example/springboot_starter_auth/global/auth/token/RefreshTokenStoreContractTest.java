@@ -0,0 +1,99 @@
+package com.example.springboot_starter_auth.global.auth.token;
+
+import com.example.springboot_starter_auth.global.auth.user.constant.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshTokenStore 구현체가 공통으로 지켜야 하는 회전/재사용 감지/폐기 동작
+ * 구현체별 테스트가 상속해서 store()만 제공합니다.
+ */
+abstract class RefreshTokenStoreContractTest {
+
+    protected static final long REFRESH_TOKEN_EXPIRATION_SECONDS = 1209600;
+    protected static final long USER_ID = 1L;
+
+    private RefreshTokenStore store;
+
+    protected abstract RefreshTokenStore createStore();
+
+    @BeforeEach
+    void setUpStore() {
+        store = createStore();
+    }
+
+    protected static RefreshTokenRecord token(String tokenId, String familyId, long userId) {
+        return new RefreshTokenRecord(tokenId, familyId, userId, Role.USER,
+                System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_SECONDS * 1000, false);
+    }
+
+    @Test
+    void rotationMarksEachTokenUsedOnce() {
+        store.save(token("t1", "f1", USER_ID));
+
+        assertThat(store.markUsed("t1")).isTrue();
+        store.save(token("t2", "f1", USER_ID));
+        assertThat(store.markUsed("t2")).isTrue();
+
+        assertThat(store.find("t2")).isPresent();
+        assertThat(store.isFamilyRevoked("f1")).isFalse();
+    }
+
+    @Test
+    void reusingUsedTokenIsDetected() {
+        store.save(token("t1", "f1", USER_ID));
+
+        assertThat(store.markUsed("t1")).isTrue();
+        assertThat(store.markUsed("t1")).isFalse();
+    }
+
+    @Test
+    void unknownTokenCannotBeUsed() {
+        assertThat(store.find("missing")).isEmpty();
+        assertThat(store.markUsed("missing")).isFalse();
+    }
+
+    @Test
+    void revokedFamilyBlocksExistingAndLaterTokens() {
+        store.save(token("t1", "f1", USER_ID));
+        store.save(token("other", "f2", USER_ID));
+
+        store.revokeFamily("f1");
+        // 폐기 이후에 저장된 같은 family의 토큰 (다른 요청에서 회전 중이던 토큰)
+        store.save(token("t2", "f1", USER_ID));
+
+        assertThat(store.isFamilyRevoked("f1")).isTrue();
+        assertThat(store.markUsed("t1")).isFalse();
+        assertThat(store.markUsed("t2")).isFalse();
+        assertThat(store.isFamilyRevoked("f2")).isFalse();
+        assertThat(store.markUsed("other")).isTrue();
+    }
+
+    @Test
+    void revokeAllForUserRevokesEveryFamilyOfUser() {
+        store.save(token("a1", "fa", USER_ID));
+        store.save(token("b1", "fb", USER_ID));
+        store.save(token("c1", "fc", 2L));
+
+        store.revokeAllForUser(USER_ID);
+
+        assertThat(store.isFamilyRevoked("fa")).isTrue();
+        assertThat(store.isFamilyRevoked("fb")).isTrue();
+        assertThat(store.markUsed("a1")).isFalse();
+        assertThat(store.markUsed("b1")).isFalse();
+        assertThat(store.markUsed("c1")).isTrue();
+    }
+
+    @Test
+    void purgeRemovesOnlyExpiredTokens() {
+        long now = System.currentTimeMillis();
+        store.save(new RefreshTokenRecord("expired", "f1", USER_ID, Role.USER, now - 1, false));
+        store.save(token("live", "f2", USER_ID));
+
+        assertThat(store.purgeExpired(now)).isEqualTo(1);
+        assertThat(store.find("expired")).isEmpty();
+        assertThat(store.find("live")).isPresent();
+    }
+}
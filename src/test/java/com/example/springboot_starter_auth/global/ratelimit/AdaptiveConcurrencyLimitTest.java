@@ -0,0 +1,137 @@
+package com.example.springboot_starter_auth.global.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET = TimeUnit.SECONDS.toNanos(1);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SLOW = TARGET * 2;
+
+    private AdaptiveConcurrencyLimit limit;
+    // 생성 이후 시각 (생성 시점이 첫 감소 기준이므로 이후에 시작한 요청만 한도를 줄일 수 있음)
+    private long clock;
+
+    @BeforeEach
+    void setUp() {
+        limit = new AdaptiveConcurrencyLimit(10, 4, 20, TARGET, 0.9);
+        clock = System.nanoTime();
+    }
+
+    // 요청 하나를 입장시키고 duration 뒤에 완료합니다. (inflightAtStart는 입장 시점의 사용량)
+    private long complete(long start, long duration, int inflightAtStart, boolean failed) {
+        assertThat(limit.tryAcquire()).isNotEqualTo(AdaptiveConcurrencyLimit.REJECTED);
+        limit.onComplete(start, start + duration, inflightAtStart, failed);
+        return start + duration;
+    }
+
+    @Test
+    void rejectsAtLimitUntilReleased() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isEqualTo(i);
+        }
+        assertThat(limit.tryAcquire()).isEqualTo(AdaptiveConcurrencyLimit.REJECTED);
+        assertThat(limit.inflight()).isEqualTo(10);
+
+        limit.release();
+        assertThat(limit.tryAcquire()).isEqualTo(9);
+    }
+
+    @Test
+    void releaseDoesNotChangeLimit() {
+        limit.tryAcquire();
+        limit.release();
+
+        assertThat(limit.limit()).isEqualTo(10);
+        assertThat(limit.inflight()).isZero();
+    }
+
+    @Test
+    void growsOnlyWhenAtLeastHalfUsed() {
+        // 한도 10의 절반 미만 사용 - 늘리지 않음
+        for (int i = 0; i < 50; i++) {
+            complete(++clock, FAST, 4, false);
+        }
+        assertThat(limit.limit()).isEqualTo(10);
+
+        // 절반 이상 사용 - 성공마다 1/limit씩 (20번이면 약 +1.8)
+        for (int i = 0; i < 20; i++) {
+            complete(++clock, FAST, 5, false);
+        }
+        assertThat(limit.limit()).isEqualTo(11);
+        assertThat(limit.inflight()).isZero();
+    }
+
+    @Test
+    void shrinksOnSlowRequest() {
+        complete(clock + 1, SLOW, 0, false);
+
+        assertThat(limit.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void shrinksOnFailedRequestEvenIfFast() {
+        complete(clock + 1, FAST, 0, true);
+
+        assertThat(limit.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void shrinksOnceForRequestsStartedBeforeLastDecrease() {
+        long firstEnd = complete(clock + 1, SLOW, 0, false);
+        assertThat(limit.limit()).isEqualTo(9);
+
+        // 같은 과부하 구간에 이미 실행 중이던 요청들 - 다시 줄이지 않음
+        complete(clock + 2, SLOW, 0, false);
+        complete(firstEnd - 1, SLOW, 0, true);
+        assertThat(limit.limit()).isEqualTo(9);
+
+        // 마지막 감소 이후에 시작한 요청이 또 느리면 다시 줄임 (9 x 0.9 = 8.1)
+        complete(firstEnd + 1, SLOW, 0, false);
+        assertThat(limit.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void neverShrinksBelowMinimum() {
+        long start = clock;
+        for (int i = 0; i < 100; i++) {
+            start = complete(start + 1, SLOW, 0, true);
+        }
+
+        assertThat(limit.limit()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire();
+        }
+        assertThat(limit.tryAcquire()).isEqualTo(AdaptiveConcurrencyLimit.REJECTED);
+    }
+
+    @Test
+    void neverGrowsAboveMaximum() {
+        for (int i = 0; i < 10_000; i++) {
+            complete(++clock, FAST, 20, false);
+        }
+
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    void slowIsStrictlyAboveTarget() {
+        assertThat(limit.isSlow(clock, clock + TARGET)).isFalse();
+        assertThat(limit.isSlow(clock, clock + TARGET + 1)).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(10, 0, 20, TARGET, 0.9)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(3, 4, 20, TARGET, 0.9)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(30, 4, 20, TARGET, 0.9)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(10, 4, 20, 0, 0.9)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(10, 4, 20, TARGET, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.springboot_starter_auth.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginConcurrencyFilterTest {
+
+    private static final String CALLBACK = "/auth/kakao/callback";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoginConcurrencyFilter filter(long latencyTargetMs) {
+        return new LoginConcurrencyFilter(true, CALLBACK + ",/login/oauth2/code/**", 10, 4, 20, latencyTargetMs, 0.9, meterRegistry);
+    }
+
+    private int limit() {
+        return (int) meterRegistry.get("auth.login.concurrency.limit").gauge().value();
+    }
+
+    private int inflight() {
+        return (int) meterRegistry.get("auth.login.concurrency.inflight").gauge().value();
+    }
+
+    private static MockHttpServletResponse run(LoginConcurrencyFilter filter, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", CALLBACK), response, chain);
+        return response;
+    }
+
+    private static FilterChain respond(int status, long delayMillis) {
+        return (request, response) -> {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ((HttpServletResponse) response).setStatus(status);
+        };
+    }
+
+    @Test
+    void fastClientErrorsDoNotAdjustLimit() throws Exception {
+        LoginConcurrencyFilter filter = filter(60_000);
+
+        run(filter, respond(429, 0));
+        run(filter, respond(400, 0));
+
+        assertThat(limit()).isEqualTo(10);
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void slowClientErrorShrinksLimit() throws Exception {
+        LoginConcurrencyFilter filter = filter(1);
+
+        run(filter, respond(400, 20));
+
+        assertThat(limit()).isEqualTo(9);
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void serviceUnavailableShrinksLimitEvenIfFast() throws Exception {
+        // 카카오 타임아웃/회로 차단은 GlobalExceptionHandler에서 503으로 응답
+        LoginConcurrencyFilter filter = filter(60_000);
+
+        run(filter, respond(503, 0));
+
+        assertThat(limit()).isEqualTo(9);
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void exceptionShrinksLimit() throws Exception {
+        LoginConcurrencyFilter filter = filter(60_000);
+
+        assertThatThrownBy(() -> run(filter, (request, response) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(limit()).isEqualTo(9);
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void rejectsWith503WhenLimitIsFull() throws Exception {
+        LoginConcurrencyFilter filter = filter(60_000);
+        MockHttpServletResponse[] rejected = new MockHttpServletResponse[1];
+        // 한도(10)만큼 중첩 입장시킨 상태에서 한 번 더 요청
+        FilterChain[] nested = new FilterChain[1];
+        int[] depth = {0};
+        nested[0] = (request, response) -> {
+            if (++depth[0] < 10) {
+                run(filter, nested[0]);
+            } else {
+                rejected[0] = run(filter, respond(200, 0));
+            }
+        };
+
+        run(filter, nested[0]);
+
+        assertThat(rejected[0].getStatus()).isEqualTo(503);
+        assertThat(rejected[0].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("auth.login.concurrency.rejected").counter().count()).isEqualTo(1);
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void otherPathsAreNotLimited() throws Exception {
+        LoginConcurrencyFilter filter = filter(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/check-auth"), response, respond(503, 0));
+
+        assertThat(limit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.springboot_starter_auth.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketLimiterTest {
+
+    private static final int CAPACITY = 10;
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(60);
+    private static final long INTERVAL = PERIOD / CAPACITY;  // 토큰 하나당 6초
+    private static final long NOW = TimeUnit.HOURS.toNanos(1);
+
+    private static TokenBucketLimiter limiter() {
+        return new TokenBucketLimiter(CAPACITY, PERIOD, 4, 1_000);
+    }
+
+    @Test
+    void allowsBurstOfCapacityThenRejects() {
+        TokenBucketLimiter limiter = limiter();
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire("client", NOW)).isEqualTo(TokenBucketLimiter.ALLOWED);
+        }
+        assertThat(limiter.tryAcquire("client", NOW)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        TokenBucketLimiter limiter = limiter();
+        for (int i = 0; i < CAPACITY; i++) {
+            limiter.tryAcquire("a", NOW);
+        }
+
+        assertThat(limiter.tryAcquire("a", NOW)).isNotEqualTo(TokenBucketLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("b", NOW)).isEqualTo(TokenBucketLimiter.ALLOWED);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucketLimiter limiter = limiter();
+        for (int i = 0; i < CAPACITY; i++) {
+            limiter.tryAcquire("client", NOW);
+        }
+
+        // 간격 직전에는 아직 빈 상태, 남은 대기 시간은 1ns
+        assertThat(limiter.tryAcquire("client", NOW + INTERVAL - 1)).isEqualTo(1);
+        assertThat(limiter.tryAcquire("client", NOW + INTERVAL)).isEqualTo(TokenBucketLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("client", NOW + INTERVAL)).isEqualTo(INTERVAL);
+
+        // 기간 전체가 지나면 다시 가득 참 (용량을 넘어 쌓이지는 않음)
+        long later = NOW + INTERVAL + PERIOD * 5;
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire("client", later)).isEqualTo(TokenBucketLimiter.ALLOWED);
+        }
+        assertThat(limiter.tryAcquire("client", later)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void rejectionDoesNotConsumeToken() {
+        TokenBucketLimiter limiter = limiter();
+        for (int i = 0; i < CAPACITY; i++) {
+            limiter.tryAcquire("client", NOW);
+        }
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("client", NOW);
+        }
+
+        assertThat(limiter.tryAcquire("client", NOW + INTERVAL)).isEqualTo(TokenBucketLimiter.ALLOWED);
+    }
+
+    @Test
+    void retryAfterRoundsWaitUpToWholeSeconds() {
+        TokenBucketLimiter limiter = limiter();
+        for (int i = 0; i < CAPACITY; i++) {
+            limiter.tryAcquire("client", NOW);
+        }
+
+        long wait = limiter.tryAcquire("client", NOW + TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(wait).isEqualTo(INTERVAL - TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(RateLimitFilter.retryAfterSeconds(wait)).isEqualTo(6);
+
+        assertThat(RateLimitFilter.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(RateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(2))).isEqualTo(2);
+        assertThat(RateLimitFilter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(2) + 1)).isEqualTo(3);
+    }
+
+    @Test
+    void overflowingShardAllowsNewClientsWithoutBucket() {
+        // 샤드 1개, 최대 버킷 2개
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, PERIOD, 1, 2);
+        assertThat(limiter.tryAcquire("a", NOW)).isEqualTo(TokenBucketLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("b", NOW)).isEqualTo(TokenBucketLimiter.ALLOWED);
+
+        // 상한을 넘은 클라이언트는 제한 없이 통과하고 지표로만 남음
+        assertThat(limiter.tryAcquire("c", NOW)).isEqualTo(TokenBucketLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("c", NOW)).isEqualTo(TokenBucketLimiter.ALLOWED);
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.overflowedCount()).isEqualTo(2);
+
+        // 이미 버킷이 있는 클라이언트는 계속 제한됨
+        assertThat(limiter.tryAcquire("a", NOW)).isEqualTo(PERIOD);
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        TokenBucketLimiter limiter = limiter();
+        limiter.tryAcquire("idle", NOW);
+        limiter.tryAcquire("busy", NOW + PERIOD);
+
+        // idle 버킷은 NOW + INTERVAL에 가득 참, busy는 NOW + PERIOD + INTERVAL까지 토큰이 부족
+        assertThat(limiter.evictIdle(NOW + PERIOD)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+
+        // 지워진 클라이언트는 가득 찬 새 버킷으로 다시 시작 (동작 변화 없음)
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire("idle", NOW + PERIOD)).isEqualTo(TokenBucketLimiter.ALLOWED);
+        }
+
+        assertThat(limiter.evictIdle(NOW + PERIOD * 3)).isEqualTo(2);
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new TokenBucketLimiter(0, PERIOD, 4, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketLimiter(10, 0, 4, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketLimiter(10, PERIOD, 3, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
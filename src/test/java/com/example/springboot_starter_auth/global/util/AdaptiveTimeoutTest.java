@@ -0,0 +1,102 @@
+package com.example.springboot_starter_auth.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveTimeoutTest {
+
+    private static AdaptiveTimeout newTimeout() {
+        return new AdaptiveTimeout(Duration.ofMillis(3000), Duration.ofMillis(300), Duration.ofMillis(5000), 0.99, 2.0, 512);
+    }
+
+    // 지연이 latencyMillis인 호출 하나를 현재 타임아웃으로 실행한 결과를 기록합니다.
+    private static boolean call(AdaptiveTimeout timeout, long latencyMillis) {
+        long current = timeout.currentMillis();
+        if (latencyMillis > current) {
+            timeout.recordTimeout(current);
+            return false;
+        }
+        timeout.record(latencyMillis);
+        return true;
+    }
+
+    @Test
+    void usesInitialValueUntilEnoughSamples() {
+        AdaptiveTimeout timeout = newTimeout();
+        for (int i = 0; i < 10; i++) {
+            timeout.record(100);
+        }
+
+        assertThat(timeout.currentMillis()).isEqualTo(3000);
+    }
+
+    @Test
+    void shrinksToPercentileTimesMultiplierWithinBounds() {
+        AdaptiveTimeout timeout = newTimeout();
+        for (int i = 0; i < 512; i++) {
+            timeout.record(400);
+        }
+        assertThat(timeout.currentMillis()).isEqualTo(800);
+
+        for (int i = 0; i < 512; i++) {
+            timeout.record(50);
+        }
+        assertThat(timeout.currentMillis()).isEqualTo(300);
+    }
+
+    @Test
+    void growsAgainAfterLatencyRisesAboveTimeout() {
+        AdaptiveTimeout timeout = newTimeout();
+        for (int i = 0; i < 512; i++) {
+            timeout.record(100);
+        }
+        assertThat(timeout.currentMillis()).isEqualTo(300);
+
+        // 카카오 지연이 타임아웃(300ms)보다 커짐 -> 처음 몇 번은 타임아웃되지만 곧 다시 성공해야 함
+        int failures = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (!call(timeout, 1000)) {
+                failures++;
+            }
+        }
+
+        assertThat(failures).isLessThan(10);
+        assertThat(timeout.currentMillis()).isGreaterThanOrEqualTo(1000);
+        assertThat(call(timeout, 1000)).isTrue();
+    }
+
+    @Test
+    void concurrentTimeoutsAtSameValueRaiseOnlyOnce() {
+        AdaptiveTimeout timeout = newTimeout();
+        for (int i = 0; i < 512; i++) {
+            timeout.record(100);
+        }
+
+        // 같은 타임아웃(300ms)으로 동시에 실패한 호출들
+        for (int i = 0; i < 20; i++) {
+            timeout.recordTimeout(300);
+        }
+
+        assertThat(timeout.currentMillis()).isEqualTo(600);
+    }
+
+    @Test
+    void timeoutGrowthStopsAtMax() {
+        AdaptiveTimeout timeout = newTimeout();
+        for (int i = 0; i < 100; i++) {
+            call(timeout, 60_000);
+        }
+
+        assertThat(timeout.currentMillis()).isEqualTo(5000);
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new AdaptiveTimeout(Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofMillis(300), 0.99, 2.0, 512))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.springboot_starter_auth.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 + 인증 요청 전체 흐름 부하 테스트 (./gradlew loadTest)
+ *
+ * test 프로파일(H2)로 실제 포트에 앱을 띄우고, 카카오는 KakaoStubServer로 대체합니다.
+ * 가상 사용자마다 /auth/kakao/callback 로그인 후 받은 accessToken 쿠키로
+ * /api/users/me/info, /api/check-auth를 반복 호출하며, 처리량과 p50/p99/p999를 출력합니다.
+ * load-test.properties의 예산을 넘으면 실패합니다.
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthLoadTest {
+
+    private static final Properties config = loadConfig();
+    private static final KakaoStubServer kakaoStub = startKakaoStub();
+
+    @LocalServerPort
+    private int port;
+
+    // 가상 스레드 on/off 비교용 (./gradlew loadTest -PvirtualThreads=true|false)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void kakaoStubProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.security.oauth2.client.provider.kakao.token-uri",
+                () -> kakaoStub.baseUrl() + KakaoStubServer.TOKEN_PATH);
+        registry.add("spring.security.oauth2.client.provider.kakao.user-info-uri",
+                () -> kakaoStub.baseUrl() + KakaoStubServer.USER_INFO_PATH);
+    }
+
+    @AfterAll
+    static void stopKakaoStub() {
+        kakaoStub.close();
+    }
+
+    @Test
+    void loginAndAuthenticatedRequestsStayWithinBudget() throws Exception {
+        int virtualUsers = intConfig("load.virtual-users");
+        int loginsPerUser = intConfig("load.logins-per-user");
+        int requestsPerLogin = intConfig("load.requests-per-login");
+        int concurrency = intConfig("load.concurrency");
+
+        // JIT/커넥션 풀/캐시 워밍업 (집계 제외, 측정 구간과 다른 사용자 번호 사용)
+        LatencyStats warmup = new LatencyStats("warmup", intConfig("load.warmup-logins") * (1 + requestsPerLogin));
+        runUsers(intConfig("load.warmup-logins"), 1, requestsPerLogin, concurrency, 1_000_000, warmup, warmup, warmup);
+
+        int logins = virtualUsers * loginsPerUser;
+        LatencyStats callback = new LatencyStats("callback", logins);
+        LatencyStats userInfo = new LatencyStats("users/me/info", logins * requestsPerLogin);
+        LatencyStats checkAuth = new LatencyStats("check-auth", logins * requestsPerLogin);
+
+        long startedAt = System.currentTimeMillis();
+        runUsers(virtualUsers, loginsPerUser, requestsPerLogin, concurrency, 0, callback, userInfo, checkAuth);
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+
+        LatencyStats.Summary callbackSummary = callback.summarize(elapsedMillis);
+        LatencyStats.Summary userInfoSummary = userInfo.summarize(elapsedMillis);
+        LatencyStats.Summary checkAuthSummary = checkAuth.summarize(elapsedMillis);
+        log.info("Auth load test finished in {}ms (virtualThreads={}, virtualUsers={}, concurrency={}, kakaoStubRequests={}, injectedErrors={})\n{}\n{}\n{}",
+                elapsedMillis, virtualThreads, virtualUsers, concurrency, kakaoStub.requestCount(), kakaoStub.injectedErrorCount(),
+                callbackSummary, userInfoSummary, checkAuthSummary);
+
+        assertThat(callbackSummary.p99Millis()).as("callback p99 (ms)").isLessThanOrEqualTo(doubleConfig("budget.callback.p99-ms"));
+        assertThat(userInfoSummary.p99Millis()).as("users/me/info p99 (ms)").isLessThanOrEqualTo(doubleConfig("budget.user-info.p99-ms"));
+        assertThat(checkAuthSummary.p99Millis()).as("check-auth p99 (ms)").isLessThanOrEqualTo(doubleConfig("budget.check-auth.p99-ms"));
+        assertThat(callbackSummary.errorRate()).as("callback error rate").isLessThanOrEqualTo(doubleConfig("budget.callback.max-error-rate"));
+        assertThat(userInfoSummary.errorRate()).as("users/me/info error rate").isLessThanOrEqualTo(doubleConfig("budget.authenticated.max-error-rate"));
+        assertThat(checkAuthSummary.errorRate()).as("check-auth error rate").isLessThanOrEqualTo(doubleConfig("budget.authenticated.max-error-rate"));
+    }
+
+    private void runUsers(int users, int loginsPerUser, int requestsPerLogin, int concurrency, int userNumberOffset,
+                          LatencyStats callback, LatencyStats userInfo, LatencyStats checkAuth) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                int userNumber = userNumberOffset + i;
+                futures.add(executor.submit(() -> {
+                    for (int login = 0; login < loginsPerUser; login++) {
+                        String accessToken = login(userNumber, login, callback);
+                        if (accessToken == null) {
+                            continue;  // 주입된 카카오 오류 등으로 로그인 실패 - 다음 로그인 시도
+                        }
+                        for (int r = 0; r < requestsPerLogin; r++) {
+                            get("/api/users/me/info", accessToken, userInfo);
+                            get("/api/check-auth", accessToken, checkAuth);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 로그인 후 Set-Cookie의 accessToken을 반환 (실패 시 null)
+    private String login(int userNumber, int attempt, LatencyStats stats) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/auth/kakao/callback?code=user-" + userNumber + "-" + attempt))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        long elapsed = System.nanoTime() - start;
+
+        String accessToken = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("accessToken="))
+                .map(cookie -> cookie.substring("accessToken=".length(), cookie.indexOf(';')))
+                .findFirst()
+                .orElse(null);
+        boolean success = response.statusCode() == 302 && accessToken != null;
+        stats.record(elapsed, success);
+        return success ? accessToken : null;
+    }
+
+    private void get(String path, String accessToken, LatencyStats stats) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Cookie", "accessToken=" + accessToken)
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        stats.record(System.nanoTime() - start, response.statusCode() == 200);
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + port + pathAndQuery);
+    }
+
+    private static KakaoStubServer startKakaoStub() {
+        try {
+            return new KakaoStubServer(
+                    new KakaoStubServer.Latency(longConfig("stub.token.median-ms"), longConfig("stub.token.p99-ms")),
+                    new KakaoStubServer.Latency(longConfig("stub.user-info.median-ms"), longConfig("stub.user-info.p99-ms")),
+                    doubleConfig("stub.error-rate"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Properties loadConfig() {
+        Properties properties = new Properties();
+        try (InputStream in = AuthLoadTest.class.getClassLoader().getResourceAsStream("load-test.properties")) {
+            if (in == null) {
+                throw new IllegalStateException("load-test.properties not found on the test classpath");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    // -D 시스템 프로퍼티가 있으면 파일 값보다 우선합니다.
+    private static String config(String key) {
+        String value = System.getProperty(key, config.getProperty(key));
+        if (value == null) {
+            throw new IllegalStateException("Missing load test setting: " + key);
+        }
+        return value.trim();
+    }
+
+    private static int intConfig(String key) {
+        return Integer.parseInt(config(key));
+    }
+
+    private static long longConfig(String key) {
+        return Long.parseLong(config(key));
+    }
+
+    private static double doubleConfig(String key) {
+        return Double.parseDouble(config(key));
+    }
+}
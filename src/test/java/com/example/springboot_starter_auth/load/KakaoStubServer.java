@@ -0,0 +1,149 @@
+package com.example.springboot_starter_auth.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 카카오 OAuth 대역 서버 (JDK 내장 HttpServer, 평문 HTTP/1.1)
+ *
+ * POST /oauth/token  : 인가 코드 "user-{n}-..."를 받아 액세스 토큰 "stub-{n}"을 발급
+ * GET  /v2/user/me   : "Bearer stub-{n}"에 대해 kakaoId = 1_000_000 + n 인 사용자 정보 반환
+ * 같은 n으로 여러 번 로그인하면 기존 회원 로그인(upsert 갱신) 경로를 탑니다.
+ *
+ * 응답 지연은 로그정규분포(중앙값, p99 지정)를 따르며, errorRate 비율로 500을 반환합니다.
+ */
+public class KakaoStubServer implements AutoCloseable {
+
+    public static final String TOKEN_PATH = "/oauth/token";
+    public static final String USER_INFO_PATH = "/v2/user/me";
+    private static final long KAKAO_ID_OFFSET = 1_000_000L;
+    // 표준정규분포의 99 백분위 z값
+    private static final double Z_99 = 2.326;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Latency tokenLatency;
+    private final Latency userInfoLatency;
+    private final double errorRate;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public KakaoStubServer(Latency tokenLatency, Latency userInfoLatency, double errorRate) throws IOException {
+        this.tokenLatency = tokenLatency;
+        this.userInfoLatency = userInfoLatency;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(TOKEN_PATH, this::handleToken);
+        server.createContext(USER_INFO_PATH, this::handleUserInfo);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        String code = formValue(exchange.getRequestBody(), "code");
+        if (!simulate(exchange, tokenLatency)) {
+            return;
+        }
+        String userNumber = code != null && code.startsWith("user-") ? code.split("-")[1] : null;
+        if (userNumber == null) {
+            respond(exchange, 400, "{\"error\":\"invalid_grant\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"access_token\":\"stub-" + userNumber + "\",\"token_type\":\"bearer\","
+                + "\"refresh_token\":\"stub-refresh-" + userNumber + "\",\"expires_in\":21599}");
+    }
+
+    private void handleUserInfo(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (!simulate(exchange, userInfoLatency)) {
+            return;
+        }
+        if (authorization == null || !authorization.startsWith("Bearer stub-")) {
+            respond(exchange, 401, "{\"msg\":\"this access token does not exist\",\"code\":-401}");
+            return;
+        }
+        long userNumber = Long.parseLong(authorization.substring("Bearer stub-".length()));
+        respond(exchange, 200, "{\"id\":" + (KAKAO_ID_OFFSET + userNumber) + ","
+                + "\"kakao_account\":{\"email\":\"user" + userNumber + "@example.com\","
+                + "\"profile\":{\"nickname\":\"user" + userNumber + "\","
+                + "\"profile_image_url\":\"http://img.example.com/" + userNumber + ".jpg\"}}}");
+    }
+
+    // 지연을 주고, 오류를 주입했으면 false
+    private boolean simulate(HttpExchange exchange, Latency latency) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(latency.sampleMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, 500, "{\"error\":\"stub_injected_error\"}");
+            return false;
+        }
+        return true;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static String formValue(InputStream body, String name) throws IOException {
+        String form = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        for (String pair : form.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && name.equals(pair.substring(0, eq))) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 로그정규분포 지연 (중앙값과 p99로 지정, 0이면 지연 없음)
+     */
+    public record Latency(long medianMillis, long p99Millis) {
+
+        long sampleMillis() {
+            if (medianMillis <= 0) {
+                return 0;
+            }
+            double sigma = p99Millis > medianMillis ? Math.log((double) p99Millis / medianMillis) / Z_99 : 0;
+            double gaussian = ThreadLocalRandom.current().nextGaussian();
+            return Math.round(medianMillis * Math.exp(sigma * gaussian));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.springboot_starter_auth.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 응답 시간/오류 집계 (부하 테스트 전용)
+ * 측정값은 미리 잡아 둔 배열에 기록하고, 종료 후 정렬해 정확한 백분위를 계산합니다.
+ */
+public class LatencyStats {
+
+    private final String name;
+    private final long[] latenciesMicros;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public LatencyStats(String name, int capacity) {
+        this.name = name;
+        this.latenciesMicros = new long[capacity];
+    }
+
+    public void record(long elapsedNanos, boolean success) {
+        long index = count.getAndIncrement();
+        if (index < latenciesMicros.length) {
+            latenciesMicros[(int) index] = elapsedNanos / 1_000;
+        }
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    public Summary summarize(long elapsedMillis) {
+        int n = (int) Math.min(count.get(), latenciesMicros.length);
+        long[] sorted = Arrays.copyOf(latenciesMicros, n);
+        Arrays.sort(sorted);
+        return new Summary(name, count.get(), errors.get(),
+                elapsedMillis == 0 ? 0 : count.get() * 1000.0 / elapsedMillis,
+                percentileMillis(sorted, 0.5), percentileMillis(sorted, 0.99), percentileMillis(sorted, 0.999),
+                n == 0 ? 0 : sorted[n - 1] / 1000.0);
+    }
+
+    private static double percentileMillis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(sorted.length * quantile) - 1);
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+
+    public record Summary(String name, long count, long errors, double throughputPerSecond,
+                          double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-14s count=%7d errors=%5d (%.2f%%) rps=%8.1f p50=%7.2fms p99=%7.2fms p999=%7.2fms max=%7.2fms",
+                    name, count, errors, errorRate() * 100, throughputPerSecond, p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+    }
+}